@@ -0,0 +1,81 @@
+package mh.battle;
+
+/**
+ * Summary of one resolved battle, returned by headless strategies instead of printed text.
+ */
+public class BattleResult {
+    private final boolean heroesWon;
+    private final int rounds;
+    private final int heroesStanding;
+    private final double heroHpRemaining;
+    private final double damageDealt;
+    private final double damageTaken;
+    private final int spellsCast;
+    private final int potionsUsed;
+    private final int rewardExperience;
+    private final int rewardGold;
+
+    public BattleResult(boolean heroesWon, int rounds, int heroesStanding, double heroHpRemaining,
+                        double damageDealt, double damageTaken, int spellsCast, int potionsUsed,
+                        int rewardExperience, int rewardGold) {
+        this.heroesWon = heroesWon;
+        this.rounds = rounds;
+        this.heroesStanding = heroesStanding;
+        this.heroHpRemaining = heroHpRemaining;
+        this.damageDealt = damageDealt;
+        this.damageTaken = damageTaken;
+        this.spellsCast = spellsCast;
+        this.potionsUsed = potionsUsed;
+        this.rewardExperience = rewardExperience;
+        this.rewardGold = rewardGold;
+    }
+
+    public boolean isHeroesWon() {
+        return heroesWon;
+    }
+
+    public int getRounds() {
+        return rounds;
+    }
+
+    public int getHeroesStanding() {
+        return heroesStanding;
+    }
+
+    /**
+     * Total HP left across the party when the battle ended, measured before victory rewards and revives.
+     */
+    public double getHeroHpRemaining() {
+        return heroHpRemaining;
+    }
+
+    public double getDamageDealt() {
+        return damageDealt;
+    }
+
+    public double getDamageTaken() {
+        return damageTaken;
+    }
+
+    public int getSpellsCast() {
+        return spellsCast;
+    }
+
+    public int getPotionsUsed() {
+        return potionsUsed;
+    }
+
+    public int getRewardExperience() {
+        return rewardExperience;
+    }
+
+    public int getRewardGold() {
+        return rewardGold;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%s after %d rounds (%d heroes standing, %.0f HP left, dealt %.0f, took %.0f)",
+                heroesWon ? "Victory" : "Defeat", rounds, heroesStanding, heroHpRemaining, damageDealt, damageTaken);
+    }
+}
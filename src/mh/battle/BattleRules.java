@@ -0,0 +1,107 @@
+package mh.battle;
+
+import java.util.List;
+import java.util.Random;
+
+import mh.items.Spell;
+import mh.model.AttackResult;
+import mh.model.CombatArithmetics;
+import mh.model.Creature;
+import mh.model.Hero;
+import mh.model.Monster;
+import mh.model.StatusEffects;
+
+/**
+ * Combat rules shared by every {@link mh.battle.strategy.BattleStrategy}, so interactive
+ * and headless battles resolve spells and rewards identically.
+ */
+public final class BattleRules {
+    private BattleRules() {}
+
+    public static boolean hasManaFor(Hero hero, Spell spell) {
+        return hero.getMana() >= spell.getManaCost();
+    }
+
+    /**
+     * Spends the mana and the single-use spell, then resolves the cast against the target.
+     * A dodged result means the target resisted the spell; otherwise the spell's timed effect is
+     * registered with {@code effects}.
+     */
+    public static AttackResult castSpell(Hero hero, Spell spell, Monster target, Random random, StatusEffects effects) {
+        hero.useMana(spell.getManaCost());
+        hero.removeSpell(spell);
+        double damage = CombatArithmetics.current().spellHit(hero.spellDamage(spell), target.getDefense());
+        if (random.nextDouble() < target.getDodgeChance()) {
+            return AttackResult.dodged();
+        }
+        double applied = target.takeDamage(damage);
+        spell.applyEffect(hero, target, effects);
+        return AttackResult.hit(applied, false);
+    }
+
+    // BALANCE FIX: reduce battle rewards so early heroes do not become instantly rich.
+    public static int victoryExperience(int monsterCount) {
+        return Math.max(2, monsterCount * 2);
+    }
+
+    public static int victoryGold(int highestMonsterLevel) {
+        return Math.max(50, highestMonsterLevel * 80);
+    }
+
+    public static void grantVictoryRewards(List<Hero> heroes, int rewardExp, int rewardGold) {
+        for (Hero hero : heroes) {
+            if (hero.isFainted()) {
+                // FEATURE FROM PRIYANSHU: Fainted heroes revive after victory.
+                hero.reviveHalf();
+                continue;
+            }
+            hero.gainRewards(rewardExp, rewardGold);
+        }
+    }
+
+    // Index-based roster helpers: battle loops call these every turn, so they avoid streams and
+    // temporary lists.
+
+    public static int countStanding(List<? extends Creature> creatures) {
+        int standing = 0;
+        for (int i = 0; i < creatures.size(); i++) {
+            if (!creatures.get(i).isFainted()) {
+                standing++;
+            }
+        }
+        return standing;
+    }
+
+    public static boolean allFainted(List<? extends Creature> creatures) {
+        for (int i = 0; i < creatures.size(); i++) {
+            if (!creatures.get(i).isFainted()) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * The {@code index}-th creature still standing, in list order, or null if there are not that many.
+     */
+    public static <T extends Creature> T standingAt(List<T> creatures, int index) {
+        for (int i = 0; i < creatures.size(); i++) {
+            T creature = creatures.get(i);
+            if (!creature.isFainted() && index-- == 0) {
+                return creature;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Uniform pick among standing creatures; draws exactly as indexing a list of them would.
+     */
+    public static <T extends Creature> T pickStanding(List<T> creatures, Random random) {
+        int standing = countStanding(creatures);
+        if (standing == 0) {
+            return null;
+        }
+        return standingAt(creatures, random.nextInt(standing));
+    }
+}
@@ -0,0 +1,127 @@
+package mh.battle.event;
+
+import java.util.List;
+
+import mh.items.Spell;
+import mh.model.Creature;
+import mh.model.Hero;
+import mh.model.Monster;
+
+/**
+ * Headless consumer that aggregates the event stream into running totals across any number of battles.
+ */
+public class BattleEventCounter implements BattleEventListener {
+    private int battles;
+    private int victories;
+    private int hits;
+    private int dodges;
+    private int criticalHits;
+    private int spellsCast;
+    private int spellsResisted;
+    private int heroFaints;
+    private int monsterFaints;
+    private double heroDamage;
+    private double monsterDamage;
+
+    @Override
+    public void onBattleStart(List<Hero> heroes, List<Monster> monsters) {
+        battles++;
+    }
+
+    @Override
+    public void onDodge(Creature attacker, Creature target) {
+        dodges++;
+    }
+
+    @Override
+    public void onCriticalHit(Creature attacker, Creature target) {
+        criticalHits++;
+    }
+
+    @Override
+    public void onHit(Creature attacker, Creature target, double damage, boolean critical) {
+        hits++;
+        if (attacker instanceof Hero) {
+            heroDamage += damage;
+        } else {
+            monsterDamage += damage;
+        }
+    }
+
+    @Override
+    public void onSpellResisted(Hero caster, Spell spell, Monster target) {
+        spellsResisted++;
+    }
+
+    @Override
+    public void onSpellCast(Hero caster, Spell spell, Monster target, double damage) {
+        spellsCast++;
+        heroDamage += damage;
+    }
+
+    @Override
+    public void onFaint(Creature creature) {
+        if (creature instanceof Hero) {
+            heroFaints++;
+        } else {
+            monsterFaints++;
+        }
+    }
+
+    @Override
+    public void onVictory(List<Hero> heroes, int experience, int gold) {
+        victories++;
+    }
+
+    public int getBattles() {
+        return battles;
+    }
+
+    public int getVictories() {
+        return victories;
+    }
+
+    public int getHits() {
+        return hits;
+    }
+
+    public int getDodges() {
+        return dodges;
+    }
+
+    public int getCriticalHits() {
+        return criticalHits;
+    }
+
+    public int getSpellsCast() {
+        return spellsCast;
+    }
+
+    public int getSpellsResisted() {
+        return spellsResisted;
+    }
+
+    public int getHeroFaints() {
+        return heroFaints;
+    }
+
+    public int getMonsterFaints() {
+        return monsterFaints;
+    }
+
+    public double getHeroDamage() {
+        return heroDamage;
+    }
+
+    public double getMonsterDamage() {
+        return monsterDamage;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%d battles, %d won, %d hits (%d crit), %d dodges, %d spells (%d resisted), "
+                        + "faints %d heroes / %d monsters, damage %.0f dealt / %.0f taken",
+                battles, victories, hits, criticalHits, dodges, spellsCast, spellsResisted,
+                heroFaints, monsterFaints, heroDamage, monsterDamage);
+    }
+}
@@ -0,0 +1,37 @@
+package mh.battle.event;
+
+import java.util.List;
+
+import mh.items.Spell;
+import mh.model.Creature;
+import mh.model.Hero;
+import mh.model.Monster;
+
+/**
+ * Receives one typed event per resolved battle step.
+ * Every callback defaults to a no-op, so batch simulations can drop the stream without formatting any text.
+ */
+public interface BattleEventListener {
+    BattleEventListener NO_OP = new BattleEventListener() {};
+
+    default void onBattleStart(List<Hero> heroes, List<Monster> monsters) {}
+
+    default void onDodge(Creature attacker, Creature target) {}
+
+    /**
+     * Published just before the matching {@link #onHit} of a critical strike.
+     */
+    default void onCriticalHit(Creature attacker, Creature target) {}
+
+    default void onHit(Creature attacker, Creature target, double damage, boolean critical) {}
+
+    default void onSpellResisted(Hero caster, Spell spell, Monster target) {}
+
+    default void onSpellCast(Hero caster, Spell spell, Monster target, double damage) {}
+
+    default void onFaint(Creature creature) {}
+
+    default void onVictory(List<Hero> heroes, int experience, int gold) {}
+
+    default void onDefeat(List<Hero> heroes) {}
+}
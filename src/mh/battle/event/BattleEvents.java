@@ -0,0 +1,46 @@
+package mh.battle.event;
+
+import mh.items.Spell;
+import mh.model.AttackOutcome;
+import mh.model.AttackResult;
+import mh.model.Creature;
+import mh.model.Hero;
+import mh.model.Monster;
+
+/**
+ * Translates resolved attacks into the event sequence every battle strategy publishes,
+ * so interactive and headless battles emit identical streams.
+ */
+public final class BattleEvents {
+    private BattleEvents() {
+    }
+
+    /**
+     * @param outcome an {@link AttackOutcome} from {@code Creature.strike}
+     */
+    public static void attack(BattleEventListener events, Creature attacker, Creature target, double outcome) {
+        if (AttackOutcome.isDodged(outcome)) {
+            events.onDodge(attacker, target);
+            return;
+        }
+        boolean critical = AttackOutcome.isCritical(outcome);
+        if (critical) {
+            events.onCriticalHit(attacker, target);
+        }
+        events.onHit(attacker, target, AttackOutcome.damageApplied(outcome), critical);
+        if (target.isFainted()) {
+            events.onFaint(target);
+        }
+    }
+
+    public static void spell(BattleEventListener events, Hero caster, Spell spell, Monster target, AttackResult result) {
+        if (result.isDodged()) {
+            events.onSpellResisted(caster, spell, target);
+            return;
+        }
+        events.onSpellCast(caster, spell, target, result.getDamageApplied());
+        if (target.isFainted()) {
+            events.onFaint(target);
+        }
+    }
+}
@@ -0,0 +1,77 @@
+package mh.battle.event;
+
+import java.util.List;
+
+import mh.items.Spell;
+import mh.model.Creature;
+import mh.model.Hero;
+import mh.model.Monster;
+import mh.util.ColorUtil;
+import mh.util.GameOutput;
+
+/**
+ * Interactive subscriber that turns battle events into the familiar colored console text.
+ */
+public class ConsoleBattleRenderer implements BattleEventListener {
+    private final GameOutput out;
+
+    public ConsoleBattleRenderer(GameOutput out) {
+        this.out = out;
+    }
+
+    @Override
+    public void onBattleStart(List<Hero> heroes, List<Monster> monsters) {
+        out.println(ColorUtil.BOLD + ColorUtil.BRIGHT_CYAN + "A battle begins!" + ColorUtil.RESET);
+    }
+
+    @Override
+    public void onDodge(Creature attacker, Creature target) {
+        if (attacker instanceof Hero) {
+            out.printf(ColorUtil.MAGENTA + "%s dodged the attack!%s%n", target.getName(), ColorUtil.RESET);
+        } else {
+            out.printf(ColorUtil.MAGENTA + "%s dodged %s's attack!%s%n", target.getName(), attacker.getName(), ColorUtil.RESET);
+        }
+    }
+
+    @Override
+    public void onCriticalHit(Creature attacker, Creature target) {
+        out.println(ColorUtil.BRIGHT_YELLOW + ColorUtil.BOLD + "[CRITICAL HIT!] "
+                + attacker.getName() + " deals massive damage!" + ColorUtil.RESET);
+    }
+
+    @Override
+    public void onHit(Creature attacker, Creature target, double damage, boolean critical) {
+        String critTag = critical ? " [✦ CRIT]" : "";
+        out.printf(ColorUtil.YELLOW + "%s attacked %s for %.0f damage!%s%s%n",
+                attacker.getName(), target.getName(), damage, critTag, ColorUtil.RESET);
+    }
+
+    @Override
+    public void onSpellResisted(Hero caster, Spell spell, Monster target) {
+        out.printf(ColorUtil.MAGENTA + "%s resisted the spell!%s%n", target.getName(), ColorUtil.RESET);
+    }
+
+    @Override
+    public void onSpellCast(Hero caster, Spell spell, Monster target, double damage) {
+        out.printf(ColorUtil.YELLOW + "%s cast %s on %s for %.0f damage!%s%n",
+                caster.getName(), spell.getName(), target.getName(), damage, ColorUtil.RESET);
+    }
+
+    @Override
+    public void onFaint(Creature creature) {
+        // Fallen monsters simply drop off the status board; only heroes get a line.
+        if (creature instanceof Hero) {
+            out.printf("%s fainted!%n", creature.getName());
+        }
+    }
+
+    @Override
+    public void onVictory(List<Hero> heroes, int experience, int gold) {
+        out.println(ColorUtil.BOLD + ColorUtil.BRIGHT_GREEN + "Heroes won the battle! Rewards granted." + ColorUtil.RESET);
+    }
+
+    @Override
+    public void onDefeat(List<Hero> heroes) {
+        out.println("The monsters have prevailed...");
+    }
+}
@@ -0,0 +1,69 @@
+package mh.battle.policy;
+
+import mh.items.Spell;
+import mh.model.Monster;
+
+/**
+ * One hero decision for a battle turn. Indices refer to the hero's current inventory lists.
+ */
+public final class BattleAction {
+    public enum Type { ATTACK, CAST_SPELL, USE_POTION, EQUIP_WEAPON, EQUIP_ARMOR }
+
+    private static final BattleAction ATTACK_FIRST_STANDING = new BattleAction(Type.ATTACK, null, null, -1);
+
+    private final Type type;
+    private final Monster target;
+    private final Spell spell;
+    private final int index;
+
+    private BattleAction(Type type, Monster target, Spell spell, int index) {
+        this.type = type;
+        this.target = target;
+        this.spell = spell;
+        this.index = index;
+    }
+
+    public static BattleAction attack(Monster target) {
+        return new BattleAction(Type.ATTACK, target, null, -1);
+    }
+
+    /**
+     * Attack with no chosen target: the battle strikes the first monster still standing.
+     * Returns a shared instance, so attack-only policies allocate nothing per turn.
+     */
+    public static BattleAction attackFirstStanding() {
+        return ATTACK_FIRST_STANDING;
+    }
+
+    public static BattleAction castSpell(Spell spell, Monster target) {
+        return new BattleAction(Type.CAST_SPELL, target, spell, -1);
+    }
+
+    public static BattleAction usePotion(int potionIndex) {
+        return new BattleAction(Type.USE_POTION, null, null, potionIndex);
+    }
+
+    public static BattleAction equipWeapon(int weaponIndex) {
+        return new BattleAction(Type.EQUIP_WEAPON, null, null, weaponIndex);
+    }
+
+    public static BattleAction equipArmor(int armorIndex) {
+        return new BattleAction(Type.EQUIP_ARMOR, null, null, armorIndex);
+    }
+
+    public Type getType() {
+        return type;
+    }
+
+    public Monster getTarget() {
+        return target;
+    }
+
+    public Spell getSpell() {
+        return spell;
+    }
+
+    public int getIndex() {
+        return index;
+    }
+}
@@ -0,0 +1,76 @@
+package mh.battle.policy;
+
+import java.util.List;
+
+import mh.battle.BattleRules;
+import mh.items.Potion;
+import mh.items.Spell;
+import mh.model.Hero;
+import mh.model.Monster;
+
+/**
+ * Built-in hero policies for non-interactive battles.
+ */
+public final class HeroActionPolicies {
+    private static final double POTION_HP_THRESHOLD = 0.3;
+
+    private static final HeroActionPolicy ATTACK_FIRST = (hero, heroes, monsters) -> BattleAction.attackFirstStanding();
+    private static final HeroActionPolicy ATTACK_WEAKEST = (hero, heroes, monsters) -> BattleAction.attack(weakest(monsters));
+    private static final HeroActionPolicy CASTER = new CasterPolicy();
+
+    private HeroActionPolicies() {}
+
+    /**
+     * Always attacks the first monster still standing.
+     */
+    public static HeroActionPolicy attackFirst() {
+        return ATTACK_FIRST;
+    }
+
+    /**
+     * Always attacks the monster with the least HP left.
+     */
+    public static HeroActionPolicy attackWeakest() {
+        return ATTACK_WEAKEST;
+    }
+
+    /**
+     * Drinks a health potion when low, otherwise casts the strongest affordable spell
+     * at the weakest monster, falling back to a basic attack.
+     */
+    public static HeroActionPolicy caster() {
+        return CASTER;
+    }
+
+    static Monster weakest(List<Monster> monsters) {
+        Monster weakest = monsters.get(0);
+        for (int i = 1; i < monsters.size(); i++) {
+            if (monsters.get(i).getHp() < weakest.getHp()) {
+                weakest = monsters.get(i);
+            }
+        }
+        return weakest;
+    }
+
+    private static final class CasterPolicy implements HeroActionPolicy {
+        @Override
+        public BattleAction chooseAction(Hero hero, List<Hero> heroes, List<Monster> monsters) {
+            Monster target = weakest(monsters);
+            if (hero.getHp() < hero.getMaxHp() * POTION_HP_THRESHOLD) {
+                List<Potion> potions = hero.getInventory().getPotions();
+                for (int i = 0; i < potions.size(); i++) {
+                    if (potions.get(i).getAttribute() == Potion.Attribute.HP) {
+                        return BattleAction.usePotion(i);
+                    }
+                }
+            }
+            Spell best = null;
+            for (Spell spell : hero.getSpells()) {
+                if (BattleRules.hasManaFor(hero, spell) && (best == null || spell.getBaseDamage() > best.getBaseDamage())) {
+                    best = spell;
+                }
+            }
+            return best != null ? BattleAction.castSpell(best, target) : BattleAction.attack(target);
+        }
+    }
+}
@@ -0,0 +1,14 @@
+package mh.battle.policy;
+
+import java.util.List;
+
+import mh.model.Hero;
+import mh.model.Monster;
+
+/**
+ * Strategy that decides what a hero does on its battle turn.
+ * The monster list only holds monsters that are still standing.
+ */
+public interface HeroActionPolicy {
+    BattleAction chooseAction(Hero hero, List<Hero> heroes, List<Monster> monsters);
+}
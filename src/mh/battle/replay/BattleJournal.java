@@ -0,0 +1,118 @@
+package mh.battle.replay;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+
+import mh.battle.policy.BattleAction;
+import mh.model.CombatArithmetics;
+import mh.model.Hero;
+import mh.model.Monster;
+import mh.util.VarInts;
+
+/**
+ * Appends one compact binary record per battle to a journal file: the format version, the battle
+ * seed, a snapshot of every participant, each hero decision, and the final HP of everyone as a
+ * checksum for replays.
+ * A typical battle costs a few hundred bytes, most of it the hero inventories.
+ *
+ * <p>Records are framed as {@code varint length, payload} so readers can skip or stop at any
+ * boundary; the file is opened only long enough to append a finished record.</p>
+ */
+public class BattleJournal implements BattleRecorder {
+    private final Path file;
+    private final ByteArrayOutputStream actionBytes = new ByteArrayOutputStream();
+    private final DataOutputStream actions = new DataOutputStream(actionBytes);
+    private ByteArrayOutputStream headerBytes;
+    private List<Hero> heroes;
+    private List<Monster> monsters;
+    private int actionCount;
+
+    public BattleJournal(Path file) {
+        this.file = file;
+    }
+
+    public Path getFile() {
+        return file;
+    }
+
+    @Override
+    public void battleStarted(long seed, List<Hero> partyHeroes, List<Monster> spawnedMonsters) {
+        heroes = partyHeroes;
+        monsters = spawnedMonsters;
+        actionBytes.reset();
+        actionCount = 0;
+        headerBytes = new ByteArrayOutputStream(256);
+        try {
+            DataOutputStream header = new DataOutputStream(headerBytes);
+            JournalCodec.writeVersion(header);
+            JournalCodec.writeArithmetic(header, CombatArithmetics.current());
+            VarInts.writeSigned(header, seed);
+            VarInts.writeUnsigned(header, heroes.size());
+            for (Hero hero : heroes) {
+                JournalCodec.writeHero(header, hero);
+            }
+            VarInts.writeUnsigned(header, monsters.size());
+            for (Monster monster : monsters) {
+                JournalCodec.writeMonster(header, monster);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public void actionChosen(Hero hero, BattleAction action) {
+        if (headerBytes == null) {
+            return;
+        }
+        int spellIndex = action.getSpell() != null ? hero.getSpells().indexOf(action.getSpell()) : -1;
+        int targetIndex = action.getTarget() != null ? monsters.indexOf(action.getTarget()) : -1;
+        try {
+            JournalCodec.writeAction(actions, heroes.indexOf(hero), action, spellIndex, targetIndex);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        actionCount++;
+    }
+
+    @Override
+    public void battleEnded(boolean heroesWon) {
+        if (headerBytes == null) {
+            return;
+        }
+        try {
+            ByteArrayOutputStream payloadBytes = new ByteArrayOutputStream(headerBytes.size() + actionBytes.size() + 64);
+            DataOutputStream payload = new DataOutputStream(payloadBytes);
+            headerBytes.writeTo(payload);
+            VarInts.writeUnsigned(payload, actionCount);
+            actionBytes.writeTo(payload);
+            payload.writeBoolean(heroesWon);
+            for (Hero hero : heroes) {
+                payload.writeDouble(hero.getHp());
+            }
+            for (Monster monster : monsters) {
+                payload.writeDouble(monster.getHp());
+            }
+            payload.flush();
+
+            ByteArrayOutputStream frameBytes = new ByteArrayOutputStream(payloadBytes.size() + 5);
+            DataOutputStream frame = new DataOutputStream(frameBytes);
+            VarInts.writeUnsigned(frame, payloadBytes.size());
+            payloadBytes.writeTo(frame);
+            frame.flush();
+            Files.write(file, frameBytes.toByteArray(), StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } finally {
+            headerBytes = null;
+            heroes = null;
+            monsters = null;
+        }
+    }
+}
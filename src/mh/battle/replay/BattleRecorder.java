@@ -0,0 +1,30 @@
+package mh.battle.replay;
+
+import java.util.List;
+
+import mh.battle.policy.BattleAction;
+import mh.model.Hero;
+import mh.model.Monster;
+
+/**
+ * Observes the inputs that fully determine a battle: the per-battle seed, the participants as they
+ * stood before the fight, and each hero decision in order. Defaults to a no-op.
+ */
+public interface BattleRecorder {
+    BattleRecorder NO_OP = new BattleRecorder() {};
+
+    /**
+     * Called before heroes are prepared for battle, so the snapshot reflects their overworld state.
+     */
+    default void battleStarted(long seed, List<Hero> heroes, List<Monster> monsters) {}
+
+    /**
+     * Called once per completed hero turn; menu backtracking and failed choices are not reported.
+     */
+    default void actionChosen(Hero hero, BattleAction action) {}
+
+    /**
+     * Called when the last blow has landed, before victory rewards or revivals change anyone's HP.
+     */
+    default void battleEnded(boolean heroesWon) {}
+}
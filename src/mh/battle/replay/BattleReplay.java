@@ -0,0 +1,242 @@
+package mh.battle.replay;
+
+import java.io.ByteArrayInputStream;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import mh.battle.BattleResult;
+import mh.battle.event.BattleEventListener;
+import mh.battle.policy.BattleAction;
+import mh.battle.policy.HeroActionPolicy;
+import mh.battle.replay.JournalCodec.RecordedAction;
+import mh.battle.strategy.PolicyBattleStrategy;
+import mh.items.Spell;
+import mh.model.CombatArithmetic;
+import mh.model.CombatArithmetics;
+import mh.model.Hero;
+import mh.model.Monster;
+import mh.util.VarInts;
+
+/**
+ * One decoded journal record. Each {@link #replay} rebuilds the participants from the snapshot and
+ * re-executes the battle with the recorded seed and decisions, so it can be run any number of times.
+ */
+public class BattleReplay {
+    private final byte[] payload;
+    private final CombatArithmetic arithmetic;
+    private final long seed;
+    private final int heroCount;
+    private final int monsterCount;
+    private final List<RecordedAction> actions;
+    private final boolean heroesWon;
+    private final double[] finalHp;
+
+    BattleReplay(byte[] payload) throws IOException {
+        this.payload = payload;
+        DataInputStream in = new DataInputStream(new ByteArrayInputStream(payload));
+        JournalCodec.readVersion(in);
+        arithmetic = JournalCodec.readArithmetic(in);
+        seed = VarInts.readSigned(in);
+        heroCount = JournalCodec.readHeroes(in).size();
+        monsterCount = JournalCodec.readMonsters(in).size();
+        int actionCount = (int) VarInts.readUnsigned(in);
+        actions = new ArrayList<>(actionCount);
+        for (int i = 0; i < actionCount; i++) {
+            actions.add(JournalCodec.readAction(in));
+        }
+        heroesWon = in.readBoolean();
+        finalHp = new double[heroCount + monsterCount];
+        for (int i = 0; i < finalHp.length; i++) {
+            finalHp[i] = in.readDouble();
+        }
+    }
+
+    /**
+     * The combat arithmetic the battle was recorded under; {@link #replay} only runs under the same one.
+     */
+    public CombatArithmetic getArithmetic() {
+        return arithmetic;
+    }
+
+    public long getSeed() {
+        return seed;
+    }
+
+    public int getHeroCount() {
+        return heroCount;
+    }
+
+    public int getMonsterCount() {
+        return monsterCount;
+    }
+
+    public int getActionCount() {
+        return actions.size();
+    }
+
+    public boolean isHeroesWon() {
+        return heroesWon;
+    }
+
+    /**
+     * Size of the encoded record, excluding its length prefix.
+     */
+    public int getEncodedSize() {
+        return payload.length;
+    }
+
+    /**
+     * Fresh copies of the party as it entered the battle.
+     */
+    public List<Hero> startingHeroes() {
+        return decodeParticipants().heroes;
+    }
+
+    /**
+     * Fresh copies of the monsters as they were spawned.
+     */
+    public List<Monster> startingMonsters() {
+        return decodeParticipants().monsters;
+    }
+
+    /**
+     * Re-executes the battle, publishing every step to {@code events}.
+     *
+     * @throws IllegalStateException if the current combat arithmetic is not the recorded one, or if
+     *         the re-run departs from the journal (different decisions requested, or a different
+     *         outcome or final HP), which means combat rules changed
+     */
+    public BattleResult replay(BattleEventListener events) {
+        if (CombatArithmetics.current() != arithmetic) {
+            throw new IllegalStateException("Battle was recorded with " + JournalCodec.describe(arithmetic)
+                    + " combat arithmetic but " + JournalCodec.describe(CombatArithmetics.current())
+                    + " is in effect");
+        }
+        Participants start = decodeParticipants();
+        ReplayPolicy policy = new ReplayPolicy(start.heroes, start.monsters);
+        FinalState finalState = new FinalState(start.heroes, start.monsters);
+        PolicyBattleStrategy strategy = new PolicyBattleStrategy(policy, new Random(), Integer.MAX_VALUE, events);
+        strategy.setRecorder(finalState);
+        BattleResult result = strategy.runBattle(start.heroes, start.monsters, seed);
+        if (policy.next != actions.size()) {
+            throw new IllegalStateException("Replay diverged: battle ended after " + policy.next
+                    + " of " + actions.size() + " recorded actions");
+        }
+        if (finalState.heroesWon != heroesWon) {
+            throw new IllegalStateException("Replay diverged: recorded " + (heroesWon ? "victory" : "defeat")
+                    + " but replay ended in " + (finalState.heroesWon ? "victory" : "defeat"));
+        }
+        for (int i = 0; i < finalHp.length; i++) {
+            if (Double.compare(finalHp[i], finalState.hp[i]) != 0) {
+                throw new IllegalStateException(String.format("Replay diverged: participant %d ended with %.2f HP, recorded %.2f",
+                        i, finalState.hp[i], finalHp[i]));
+            }
+        }
+        return result;
+    }
+
+    public BattleResult replay() {
+        return replay(BattleEventListener.NO_OP);
+    }
+
+    private Participants decodeParticipants() {
+        try {
+            DataInputStream in = new DataInputStream(new ByteArrayInputStream(payload));
+            JournalCodec.readVersion(in);
+            JournalCodec.readArithmetic(in);
+            VarInts.readSigned(in);
+            List<Hero> heroes = JournalCodec.readHeroes(in);
+            List<Monster> monsters = JournalCodec.readMonsters(in);
+            return new Participants(heroes, monsters);
+        } catch (IOException e) {
+            // The payload already decoded once in the constructor.
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static final class Participants {
+        final List<Hero> heroes;
+        final List<Monster> monsters;
+
+        Participants(List<Hero> heroes, List<Monster> monsters) {
+            this.heroes = heroes;
+            this.monsters = monsters;
+        }
+    }
+
+    /**
+     * Feeds the recorded decisions back in order, translating indices to the rebuilt participants.
+     */
+    private final class ReplayPolicy implements HeroActionPolicy {
+        private final List<Hero> heroes;
+        private final List<Monster> monsters;
+        private int next;
+
+        ReplayPolicy(List<Hero> heroes, List<Monster> monsters) {
+            this.heroes = heroes;
+            this.monsters = monsters;
+        }
+
+        @Override
+        public BattleAction chooseAction(Hero hero, List<Hero> party, List<Monster> alive) {
+            if (next >= actions.size()) {
+                throw new IllegalStateException("Replay diverged: more turns than the " + actions.size() + " recorded actions");
+            }
+            RecordedAction action = actions.get(next);
+            int heroIndex = heroes.indexOf(hero);
+            if (action.heroIndex != heroIndex) {
+                throw new IllegalStateException("Replay diverged at action " + next + ": expected hero "
+                        + action.heroIndex + " to act, got " + heroIndex);
+            }
+            next++;
+            switch (action.type) {
+                case CAST_SPELL:
+                    List<Spell> spells = hero.getSpells();
+                    Spell spell = action.first >= 0 && action.first < spells.size() ? spells.get(action.first) : null;
+                    return BattleAction.castSpell(spell, monster(action.second));
+                case USE_POTION:
+                    return BattleAction.usePotion(action.first);
+                case EQUIP_WEAPON:
+                    return BattleAction.equipWeapon(action.first);
+                case EQUIP_ARMOR:
+                    return BattleAction.equipArmor(action.first);
+                case ATTACK:
+                default:
+                    return BattleAction.attack(monster(action.first));
+            }
+        }
+
+        private Monster monster(int index) {
+            return index >= 0 && index < monsters.size() ? monsters.get(index) : null;
+        }
+    }
+
+    private static final class FinalState implements BattleRecorder {
+        private final List<Hero> heroes;
+        private final List<Monster> monsters;
+        private final double[] hp;
+        private boolean heroesWon;
+
+        FinalState(List<Hero> heroes, List<Monster> monsters) {
+            this.heroes = heroes;
+            this.monsters = monsters;
+            this.hp = new double[heroes.size() + monsters.size()];
+        }
+
+        @Override
+        public void battleEnded(boolean won) {
+            heroesWon = won;
+            int i = 0;
+            for (Hero hero : heroes) {
+                hp[i++] = hero.getHp();
+            }
+            for (Monster monster : monsters) {
+                hp[i++] = monster.getHp();
+            }
+        }
+    }
+}
@@ -0,0 +1,79 @@
+package mh.battle.replay;
+
+import java.io.BufferedInputStream;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.io.PushbackInputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+
+import mh.battle.BattleResult;
+import mh.battle.event.ConsoleBattleRenderer;
+import mh.model.CombatArithmetics;
+import mh.util.BufferedConsoleOutput;
+import mh.util.VarInts;
+
+/**
+ * Reads {@link BattleJournal} files and re-runs the recorded battles offline.
+ *
+ * <p>Usage: {@code java mh.battle.replay.BattleReplayer <journal> [battle-number]}. With a battle
+ * number the fight is rendered exactly as the player saw it; without one every record is verified.
+ * Each battle runs under the combat arithmetic it was recorded with, whatever this process started with.</p>
+ */
+public final class BattleReplayer {
+    private BattleReplayer() {
+    }
+
+    public static List<BattleReplay> readAll(Path file) throws IOException {
+        List<BattleReplay> replays = new ArrayList<>();
+        try (PushbackInputStream raw = new PushbackInputStream(new BufferedInputStream(Files.newInputStream(file)))) {
+            DataInputStream in = new DataInputStream(raw);
+            int first;
+            while ((first = raw.read()) >= 0) {
+                raw.unread(first);
+                long length = VarInts.readUnsigned(in);
+                if (length > Integer.MAX_VALUE) {
+                    throw new IOException("Corrupt journal record length " + length);
+                }
+                byte[] payload = new byte[(int) length];
+                in.readFully(payload);
+                replays.add(new BattleReplay(payload));
+            }
+        }
+        return replays;
+    }
+
+    public static void main(String[] args) throws IOException {
+        if (args.length == 0) {
+            System.out.println("Usage: BattleReplayer <journal> [battle-number]");
+            return;
+        }
+        List<BattleReplay> replays = readAll(Paths.get(args[0]));
+        if (args.length > 1) {
+            BattleReplay replay = replays.get(Integer.parseInt(args[1]) - 1);
+            CombatArithmetics.setCurrent(replay.getArithmetic());
+            BufferedConsoleOutput out = new BufferedConsoleOutput();
+            BattleResult result = replay.replay(new ConsoleBattleRenderer(out));
+            out.println(result.toString());
+            out.flush();
+            return;
+        }
+        int diverged = 0;
+        for (int i = 0; i < replays.size(); i++) {
+            BattleReplay replay = replays.get(i);
+            CombatArithmetics.setCurrent(replay.getArithmetic());
+            try {
+                BattleResult result = replay.replay();
+                System.out.printf("#%d %d bytes, %d actions: %s%n", i + 1, replay.getEncodedSize(),
+                        replay.getActionCount(), result);
+            } catch (IllegalStateException e) {
+                diverged++;
+                System.out.printf("#%d %s%n", i + 1, e.getMessage());
+            }
+        }
+        System.out.printf("%d battles replayed, %d diverged%n", replays.size(), diverged);
+    }
+}
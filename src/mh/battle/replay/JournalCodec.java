@@ -0,0 +1,317 @@
+package mh.battle.replay;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+import mh.battle.policy.BattleAction;
+import mh.items.Armor;
+import mh.items.Item;
+import mh.items.Potion;
+import mh.items.Spell;
+import mh.items.Weapon;
+import mh.model.CombatArithmetic;
+import mh.model.CombatArithmetics;
+import mh.model.Hero;
+import mh.model.Hero.HeroClass;
+import mh.model.Monster;
+import mh.model.MonsterType;
+import mh.model.StatModifier;
+import mh.util.VarInts;
+
+/**
+ * Binary layout shared by {@link BattleJournal} and {@link BattleReplay}. Counts, indices, levels
+ * and item stats are varints; fractional stats are raw doubles so rebuilt participants match bit for bit.
+ *
+ * <p>Every record starts with {@link #FORMAT_VERSION}. Version 1 records carried no version and
+ * stored heroes' effective attributes with no modifiers; version 2 stores base attributes plus the
+ * active {@link StatModifier}s, so potions drunk under a modifier replay exactly. Version 3 follows
+ * the version with the {@link CombatArithmetics} mode the battle was fought under.</p>
+ */
+final class JournalCodec {
+    static final int FORMAT_VERSION = 3;
+    // Replayed modifiers keep their amounts but not the tile or effect that applied them.
+    private static final Object REPLAYED_SOURCE = new Object();
+    private static final int WEAPON = 0;
+    private static final int ARMOR = 1;
+    private static final int POTION = 2;
+    private static final int SPELL = 3;
+    private static final int FLOATING = 0;
+    private static final int FIXED_POINT = 1;
+
+    private JournalCodec() {
+    }
+
+    static void writeVersion(DataOutput out) throws IOException {
+        VarInts.writeUnsigned(out, FORMAT_VERSION);
+    }
+
+    static void readVersion(DataInput in) throws IOException {
+        long version = VarInts.readUnsigned(in);
+        if (version != FORMAT_VERSION) {
+            throw new IOException("Journal record is not format " + FORMAT_VERSION
+                    + "; it was written by an older or newer build");
+        }
+    }
+
+    static void writeArithmetic(DataOutput out, CombatArithmetic arithmetic) throws IOException {
+        if (arithmetic == CombatArithmetics.FLOATING) {
+            VarInts.writeUnsigned(out, FLOATING);
+        } else if (arithmetic == CombatArithmetics.FIXED_POINT) {
+            VarInts.writeUnsigned(out, FIXED_POINT);
+        } else {
+            throw new IOException("Only the built-in combat arithmetics can be journaled");
+        }
+    }
+
+    static CombatArithmetic readArithmetic(DataInput in) throws IOException {
+        long mode = VarInts.readUnsigned(in);
+        switch ((int) mode) {
+            case FLOATING:
+                return CombatArithmetics.FLOATING;
+            case FIXED_POINT:
+                return CombatArithmetics.FIXED_POINT;
+            default:
+                throw new IOException("Unknown combat arithmetic " + mode + " in journal record");
+        }
+    }
+
+    static String describe(CombatArithmetic arithmetic) {
+        if (arithmetic == CombatArithmetics.FIXED_POINT) {
+            return "fixed-point";
+        }
+        return arithmetic == CombatArithmetics.FLOATING ? "floating-point" : "custom";
+    }
+
+    static void writeHero(DataOutput out, Hero hero) throws IOException {
+        VarInts.writeString(out, hero.getName());
+        VarInts.writeUnsigned(out, hero.getHeroClass().ordinal());
+        VarInts.writeInt(out, hero.getLevel());
+        out.writeDouble(hero.getHp());
+        out.writeDouble(hero.getMana());
+        out.writeDouble(hero.getMaxMana());
+        out.writeDouble(hero.getBaseStrength());
+        out.writeDouble(hero.getBaseDexterity());
+        out.writeDouble(hero.getBaseAgility());
+        VarInts.writeInt(out, hero.getGold());
+        VarInts.writeInt(out, hero.getExperience());
+        VarInts.writeInt(out, hero.getBaseMaxHp());
+        List<StatModifier> modifiers = hero.getModifiers();
+        VarInts.writeUnsigned(out, modifiers.size());
+        for (StatModifier modifier : modifiers) {
+            VarInts.writeUnsigned(out, modifier.getStat().ordinal());
+            VarInts.writeUnsigned(out, modifier.getKind().ordinal());
+            out.writeDouble(modifier.getAmount());
+        }
+        List<Item> items = hero.getInventory().getAllItems();
+        VarInts.writeUnsigned(out, items.size());
+        for (Item item : items) {
+            writeItem(out, item);
+        }
+        writeOptionalItem(out, hero.getEquippedWeapon());
+        writeOptionalItem(out, hero.getEquippedArmor());
+    }
+
+    static Hero readHero(DataInput in) throws IOException {
+        String name = VarInts.readString(in);
+        HeroClass heroClass = HeroClass.values()[(int) VarInts.readUnsigned(in)];
+        int level = VarInts.readInt(in);
+        double hp = in.readDouble();
+        double mana = in.readDouble();
+        double maxMana = in.readDouble();
+        double strength = in.readDouble();
+        double dexterity = in.readDouble();
+        double agility = in.readDouble();
+        int gold = VarInts.readInt(in);
+        int experience = VarInts.readInt(in);
+        int baseMaxHp = VarInts.readInt(in);
+        Hero hero = new Hero(name, 0, 0, 0, 0, 0, 0, heroClass);
+        hero.restoreStats(level, hp, mana, maxMana, strength, dexterity, agility, gold, experience, baseMaxHp);
+        int modifierCount = (int) VarInts.readUnsigned(in);
+        for (int i = 0; i < modifierCount; i++) {
+            StatModifier.Stat stat = StatModifier.Stat.values()[(int) VarInts.readUnsigned(in)];
+            StatModifier.Kind kind = StatModifier.Kind.values()[(int) VarInts.readUnsigned(in)];
+            double amount = in.readDouble();
+            hero.addModifier(kind == StatModifier.Kind.ADDITIVE
+                    ? StatModifier.additive(stat, amount, REPLAYED_SOURCE)
+                    : StatModifier.multiplicative(stat, amount, REPLAYED_SOURCE));
+        }
+        int itemCount = (int) VarInts.readUnsigned(in);
+        for (int i = 0; i < itemCount; i++) {
+            Item item = readItem(in);
+            if (item instanceof Spell) {
+                hero.addSpell((Spell) item);
+            } else {
+                hero.getInventory().addItem(item);
+            }
+        }
+        Item weapon = readOptionalItem(in);
+        if (weapon != null) {
+            hero.equipWeapon((Weapon) weapon);
+        }
+        Item armor = readOptionalItem(in);
+        if (armor != null) {
+            hero.equipArmor((Armor) armor);
+        }
+        return hero;
+    }
+
+    static void writeMonster(DataOutput out, Monster monster) throws IOException {
+        VarInts.writeString(out, monster.getName());
+        VarInts.writeUnsigned(out, monster.getMonsterType().ordinal());
+        VarInts.writeInt(out, monster.getLevel());
+        out.writeDouble(monster.getHp());
+        out.writeDouble(monster.getBaseDamage());
+        out.writeDouble(monster.getDefense());
+        out.writeDouble(monster.getDodgeChance());
+    }
+
+    static Monster readMonster(DataInput in) throws IOException {
+        String name = VarInts.readString(in);
+        MonsterType type = MonsterType.values()[(int) VarInts.readUnsigned(in)];
+        int level = VarInts.readInt(in);
+        Monster monster = new Monster(name, level, 0, 0, 0, type);
+        monster.restoreStats(in.readDouble(), in.readDouble(), in.readDouble(), in.readDouble());
+        return monster;
+    }
+
+    /**
+     * Actions are stored by position: hero index in the party, monster index in the spawned list,
+     * and spell/item index in the hero's lists at the moment of the decision.
+     */
+    static void writeAction(DataOutput out, int heroIndex, BattleAction action, int spellIndex, int targetIndex)
+            throws IOException {
+        VarInts.writeUnsigned(out, heroIndex);
+        VarInts.writeUnsigned(out, action.getType().ordinal());
+        switch (action.getType()) {
+            case CAST_SPELL:
+                VarInts.writeInt(out, spellIndex);
+                VarInts.writeInt(out, targetIndex);
+                break;
+            case ATTACK:
+                VarInts.writeInt(out, targetIndex);
+                break;
+            default:
+                VarInts.writeInt(out, action.getIndex());
+                break;
+        }
+    }
+
+    static RecordedAction readAction(DataInput in) throws IOException {
+        int heroIndex = (int) VarInts.readUnsigned(in);
+        BattleAction.Type type = BattleAction.Type.values()[(int) VarInts.readUnsigned(in)];
+        int first = VarInts.readInt(in);
+        int second = type == BattleAction.Type.CAST_SPELL ? VarInts.readInt(in) : -1;
+        return new RecordedAction(heroIndex, type, first, second);
+    }
+
+    private static void writeOptionalItem(DataOutput out, Item item) throws IOException {
+        out.writeBoolean(item != null);
+        if (item != null) {
+            writeItem(out, item);
+        }
+    }
+
+    private static Item readOptionalItem(DataInput in) throws IOException {
+        return in.readBoolean() ? readItem(in) : null;
+    }
+
+    private static void writeItem(DataOutput out, Item item) throws IOException {
+        if (item instanceof Weapon) {
+            Weapon weapon = (Weapon) item;
+            writeItemHeader(out, WEAPON, item);
+            VarInts.writeInt(out, weapon.getDamage());
+            VarInts.writeInt(out, weapon.getHandsRequired());
+        } else if (item instanceof Armor) {
+            writeItemHeader(out, ARMOR, item);
+            VarInts.writeInt(out, ((Armor) item).getDamageReduction());
+        } else if (item instanceof Potion) {
+            Potion potion = (Potion) item;
+            writeItemHeader(out, POTION, item);
+            VarInts.writeUnsigned(out, potion.getAttribute().ordinal());
+            VarInts.writeInt(out, potion.getEffectAmount());
+        } else if (item instanceof Spell) {
+            Spell spell = (Spell) item;
+            writeItemHeader(out, SPELL, item);
+            VarInts.writeInt(out, spell.getBaseDamage());
+            VarInts.writeInt(out, spell.getManaCost());
+            VarInts.writeUnsigned(out, spell.getSpellType().ordinal());
+        } else {
+            throw new IllegalArgumentException("Unsupported item type: " + item.getClass().getName());
+        }
+        VarInts.writeInt(out, item.getUsesRemaining());
+    }
+
+    private static void writeItemHeader(DataOutput out, int kind, Item item) throws IOException {
+        VarInts.writeUnsigned(out, kind);
+        VarInts.writeString(out, item.getName());
+        VarInts.writeInt(out, item.getPrice());
+        VarInts.writeInt(out, item.getLevelRequirement());
+    }
+
+    private static Item readItem(DataInput in) throws IOException {
+        int kind = (int) VarInts.readUnsigned(in);
+        String name = VarInts.readString(in);
+        int price = VarInts.readInt(in);
+        int levelRequirement = VarInts.readInt(in);
+        Item item;
+        switch (kind) {
+            case WEAPON:
+                item = new Weapon(name, price, levelRequirement, VarInts.readInt(in), VarInts.readInt(in));
+                break;
+            case ARMOR:
+                item = new Armor(name, price, levelRequirement, VarInts.readInt(in));
+                break;
+            case POTION:
+                Potion.Attribute attribute = Potion.Attribute.values()[(int) VarInts.readUnsigned(in)];
+                item = new Potion(name, price, levelRequirement, attribute, VarInts.readInt(in));
+                break;
+            case SPELL:
+                int baseDamage = VarInts.readInt(in);
+                int manaCost = VarInts.readInt(in);
+                Spell.SpellType spellType = Spell.SpellType.values()[(int) VarInts.readUnsigned(in)];
+                item = new Spell(name, price, levelRequirement, baseDamage, manaCost, spellType);
+                break;
+            default:
+                throw new IOException("Unknown item kind " + kind);
+        }
+        item.restoreDurability(VarInts.readInt(in));
+        return item;
+    }
+
+    static List<Hero> readHeroes(DataInput in) throws IOException {
+        int count = (int) VarInts.readUnsigned(in);
+        List<Hero> heroes = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            heroes.add(readHero(in));
+        }
+        return heroes;
+    }
+
+    static List<Monster> readMonsters(DataInput in) throws IOException {
+        int count = (int) VarInts.readUnsigned(in);
+        List<Monster> monsters = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            monsters.add(readMonster(in));
+        }
+        return monsters;
+    }
+
+    static final class RecordedAction {
+        final int heroIndex;
+        final BattleAction.Type type;
+        // target monster for ATTACK, spell index for CAST_SPELL, item index otherwise
+        final int first;
+        // target monster for CAST_SPELL
+        final int second;
+
+        RecordedAction(int heroIndex, BattleAction.Type type, int first, int second) {
+            this.heroIndex = heroIndex;
+            this.type = type;
+            this.first = first;
+            this.second = second;
+        }
+    }
+}
@@ -0,0 +1,252 @@
+package mh.battle.strategy;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+import mh.battle.BattleResult;
+import mh.battle.BattleRules;
+import mh.battle.event.BattleEventListener;
+import mh.battle.event.BattleEvents;
+import mh.battle.policy.BattleAction;
+import mh.battle.policy.HeroActionPolicy;
+import mh.battle.replay.BattleRecorder;
+import mh.items.Spell;
+import mh.model.AttackOutcome;
+import mh.model.AttackResult;
+import mh.model.Hero;
+import mh.model.Monster;
+import mh.model.StatusEffects;
+
+/**
+ * Headless BattleStrategy: hero decisions come from a {@link HeroActionPolicy} and the outcome is
+ * reported as a {@link BattleResult}. Uses the same attack, spell, potion and reward rules as
+ * {@link SimpleBattleStrategy} without any console I/O; attach a {@link BattleEventListener} to observe it.
+ */
+public class PolicyBattleStrategy implements BattleStrategy {
+    private static final int DEFAULT_MAX_ROUNDS = 1000;
+
+    private final HeroActionPolicy policy;
+    private final Random random;
+    private final int maxRounds;
+    private final BattleEventListener events;
+    private BattleRecorder recorder = BattleRecorder.NO_OP;
+    private final StatusEffects statusEffects = new StatusEffects();
+    private Random battleRandom;
+
+    private List<Hero> heroes;
+    private List<Monster> monsters;
+    private List<Hero> heroView;
+    private List<Monster> monsterView;
+    private double damageDealt;
+    private double damageTaken;
+    private int spellsCast;
+    private int potionsUsed;
+    private BattleResult lastResult;
+
+    public PolicyBattleStrategy(HeroActionPolicy policy, Random random) {
+        this(policy, random, DEFAULT_MAX_ROUNDS);
+    }
+
+    /**
+     * @param maxRounds safety cap; a battle still running after this many rounds counts as a defeat
+     */
+    public PolicyBattleStrategy(HeroActionPolicy policy, Random random, int maxRounds) {
+        this(policy, random, maxRounds, BattleEventListener.NO_OP);
+    }
+
+    /**
+     * @param events receives the same typed event stream the interactive strategy renders
+     */
+    public PolicyBattleStrategy(HeroActionPolicy policy, Random random, int maxRounds, BattleEventListener events) {
+        this.policy = policy;
+        this.random = random;
+        this.maxRounds = maxRounds;
+        this.events = events;
+    }
+
+    @Override
+    public boolean executeBattle(List<Hero> partyHeroes, List<Monster> spawnedMonsters) {
+        return runBattle(partyHeroes, spawnedMonsters).isHeroesWon();
+    }
+
+    public void setRecorder(BattleRecorder recorder) {
+        this.recorder = recorder;
+    }
+
+    public BattleResult runBattle(List<Hero> partyHeroes, List<Monster> spawnedMonsters) {
+        return runBattle(partyHeroes, spawnedMonsters, random.nextLong());
+    }
+
+    /**
+     * Runs one battle on a stream seeded with {@code seed}; the same seed, participants and
+     * decisions always produce the same battle.
+     */
+    public BattleResult runBattle(List<Hero> partyHeroes, List<Monster> spawnedMonsters, long seed) {
+        // Restores monsters left debuffed by a battle that ended in an exception.
+        statusEffects.clear();
+        this.battleRandom = new Random(seed);
+        this.heroes = partyHeroes;
+        this.monsters = new ArrayList<>(spawnedMonsters);
+        // Policies are promised standing monsters only, from the first round on.
+        removeFaintedMonsters();
+        this.heroView = Collections.unmodifiableList(heroes);
+        this.monsterView = Collections.unmodifiableList(monsters);
+        this.damageDealt = 0;
+        this.damageTaken = 0;
+        this.spellsCast = 0;
+        this.potionsUsed = 0;
+        int highestMonsterLevel = spawnedMonsters.stream().mapToInt(Monster::getLevel).max().orElse(1);
+        recorder.battleStarted(seed, heroes, spawnedMonsters);
+        events.onBattleStart(heroes, monsters);
+        heroes.forEach(Hero::prepareForBattle);
+        int rounds = 0;
+        while (!heroesDefeated() && !monstersDefeated() && rounds < maxRounds) {
+            rounds++;
+            heroesTurn();
+            if (monstersDefeated()) {
+                break;
+            }
+            monstersTurn();
+            statusEffects.endRound();
+        }
+        boolean heroesWon = monstersDefeated();
+        recorder.battleEnded(heroesWon);
+        statusEffects.clear();
+        heroes.forEach(Hero::resetAfterBattleCaps);
+        int standing = 0;
+        double hpRemaining = 0;
+        for (Hero hero : heroes) {
+            if (!hero.isFainted()) {
+                standing++;
+                hpRemaining += hero.getHp();
+            }
+        }
+        int rewardExp = 0;
+        int rewardGold = 0;
+        if (heroesWon) {
+            rewardExp = BattleRules.victoryExperience(spawnedMonsters.size());
+            rewardGold = BattleRules.victoryGold(highestMonsterLevel);
+            BattleRules.grantVictoryRewards(heroes, rewardExp, rewardGold);
+            events.onVictory(heroes, rewardExp, rewardGold);
+        } else {
+            events.onDefeat(heroes);
+        }
+        lastResult = new BattleResult(heroesWon, rounds, standing, hpRemaining, damageDealt, damageTaken,
+                spellsCast, potionsUsed, rewardExp, rewardGold);
+        return lastResult;
+    }
+
+    public BattleResult getLastResult() {
+        return lastResult;
+    }
+
+    // The per-round paths below use index loops and AttackOutcome so that, with the built-in
+    // attack policies, a round allocates nothing; see mh.sim.AllocationBenchmark.
+    private void heroesTurn() {
+        for (int h = 0; h < heroes.size(); h++) {
+            Hero hero = heroes.get(h);
+            if (hero.isFainted()) {
+                continue;
+            }
+            BattleAction action = policy.chooseAction(hero, heroView, monsterView);
+            // Recorded before it runs (spell indices change once cast); a failed action falls back
+            // to the same attack on replay, so only a missing decision needs recording as that attack.
+            recorder.actionChosen(hero, action != null ? action : BattleAction.attackFirstStanding());
+            if (action == null || !perform(hero, action)) {
+                // An unusable decision falls back to a basic attack so batch runs never stall.
+                attack(hero, monsters.get(0));
+            }
+            removeFaintedMonsters();
+            if (monsters.isEmpty()) {
+                break;
+            }
+        }
+    }
+
+    private boolean perform(Hero hero, BattleAction action) {
+        switch (action.getType()) {
+            case CAST_SPELL:
+                return castSpell(hero, action.getSpell(), liveTarget(action.getTarget()));
+            case USE_POTION:
+                if (hero.usePotion(action.getIndex())) {
+                    potionsUsed++;
+                    return true;
+                }
+                return false;
+            case EQUIP_WEAPON:
+                return hero.equipWeapon(action.getIndex());
+            case EQUIP_ARMOR:
+                return hero.equipArmor(action.getIndex());
+            case ATTACK:
+            default:
+                attack(hero, liveTarget(action.getTarget()));
+                return true;
+        }
+    }
+
+    private void attack(Hero hero, Monster target) {
+        double outcome = hero.strike(target, battleRandom);
+        damageDealt += AttackOutcome.damageApplied(outcome);
+        BattleEvents.attack(events, hero, target, outcome);
+    }
+
+    private boolean castSpell(Hero hero, Spell spell, Monster target) {
+        if (spell == null || !hero.knowsSpell(spell)) {
+            return false;
+        }
+        if (!BattleRules.hasManaFor(hero, spell)) {
+            // Same rule as interactive play: choosing an unaffordable spell wastes the turn.
+            return true;
+        }
+        AttackResult result = BattleRules.castSpell(hero, spell, target, battleRandom, statusEffects);
+        damageDealt += result.getDamageApplied();
+        spellsCast++;
+        BattleEvents.spell(events, hero, spell, target, result);
+        return true;
+    }
+
+    private void monstersTurn() {
+        for (int m = 0; m < monsters.size(); m++) {
+            Monster monster = monsters.get(m);
+            if (monster.isFainted()) {
+                continue;
+            }
+            Hero target = pickHero();
+            if (target == null) {
+                return;
+            }
+            double outcome = monster.strike(target, battleRandom);
+            damageTaken += AttackOutcome.damageApplied(outcome);
+            BattleEvents.attack(events, monster, target, outcome);
+        }
+    }
+
+    private Monster liveTarget(Monster requested) {
+        if (requested != null && !requested.isFainted() && monsters.contains(requested)) {
+            return requested;
+        }
+        return monsters.get(0);
+    }
+
+    private Hero pickHero() {
+        return BattleRules.pickStanding(heroes, battleRandom);
+    }
+
+    private void removeFaintedMonsters() {
+        for (int m = monsters.size() - 1; m >= 0; m--) {
+            if (monsters.get(m).isFainted()) {
+                monsters.remove(m);
+            }
+        }
+    }
+
+    private boolean heroesDefeated() {
+        return BattleRules.allFainted(heroes);
+    }
+
+    private boolean monstersDefeated() {
+        return BattleRules.allFainted(monsters);
+    }
+}
@@ -0,0 +1,322 @@
+package mh.data;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+
+import mh.items.Armor;
+import mh.items.Potion;
+import mh.items.Potion.Attribute;
+import mh.items.Spell;
+import mh.items.Spell.SpellType;
+import mh.items.Weapon;
+import mh.model.Hero.HeroClass;
+import mh.model.HeroTemplate;
+import mh.model.MonsterTemplate;
+import mh.model.MonsterType;
+
+/**
+ * Read-only view of a compiled game-data file (see {@link CatalogCompiler}), memory-mapped so that
+ * opening it parses nothing and every JVM on the host shares the same cached pages.
+ *
+ * <p>Layout, big-endian: magic, format version, SHA-256 of the source files, string table offset
+ * and length, then an (offset, count) pair per section in {@link Section} order. Each section is an
+ * array of fixed-width records; a record starts with the offset and length of its name in the
+ * UTF-8 string table, followed by the raw numeric columns of its text line. Records are decoded
+ * only when asked for, by index.</p>
+ */
+public final class BinaryCatalog {
+    static final int MAGIC = 0x4D48_4354; // "MHCT"
+    static final int VERSION = 1;
+    static final int HASH_BYTES = 32;
+    static final int HEADER_BYTES = 16 + HASH_BYTES + Section.values().length * 8;
+
+    enum Kind {
+        // Name reference (8 bytes) plus the numeric columns.
+        HERO(6, 8 + 6 * 4),
+        MONSTER(5, 8 + 4 + 3 * 8),
+        WEAPON(5, 8 + 4 * 4),
+        ARMOR(4, 8 + 3 * 4),
+        POTION(5, 8 + 4 * 4),
+        SPELL(5, 8 + 4 * 4);
+
+        final int minFields;
+        final int recordBytes;
+
+        Kind(int minFields, int recordBytes) {
+            this.minFields = minFields;
+            this.recordBytes = recordBytes;
+        }
+    }
+
+    enum Section {
+        WARRIORS("Warriors.txt", Kind.HERO),
+        SORCERERS("Sorcerers.txt", Kind.HERO),
+        PALADINS("Paladins.txt", Kind.HERO),
+        DRAGONS("Dragons.txt", Kind.MONSTER),
+        EXOSKELETONS("Exoskeletons.txt", Kind.MONSTER),
+        SPIRITS("Spirits.txt", Kind.MONSTER),
+        WEAPONS("Weaponry.txt", Kind.WEAPON),
+        ARMORS("Armory.txt", Kind.ARMOR),
+        POTIONS("Potions.txt", Kind.POTION),
+        FIRE_SPELLS("FireSpells.txt", Kind.SPELL),
+        ICE_SPELLS("IceSpells.txt", Kind.SPELL),
+        LIGHTNING_SPELLS("LightningSpells.txt", Kind.SPELL);
+
+        final String fileName;
+        final Kind kind;
+
+        Section(String fileName, Kind kind) {
+            this.fileName = fileName;
+            this.kind = kind;
+        }
+    }
+
+    private final ByteBuffer buffer;
+    private final byte[] sourceHash;
+    private final int stringsOffset;
+    private final int[] offsets;
+    private final int[] counts;
+
+    private BinaryCatalog(ByteBuffer buffer) throws IOException {
+        this.buffer = buffer;
+        if (buffer.capacity() < HEADER_BYTES || buffer.getInt(0) != MAGIC) {
+            throw new IOException("Not a game data catalog");
+        }
+        if (buffer.getInt(4) != VERSION) {
+            throw new IOException("Unsupported catalog version " + buffer.getInt(4));
+        }
+        sourceHash = new byte[HASH_BYTES];
+        for (int i = 0; i < HASH_BYTES; i++) {
+            sourceHash[i] = buffer.get(8 + i);
+        }
+        stringsOffset = buffer.getInt(8 + HASH_BYTES);
+        int stringsLength = buffer.getInt(12 + HASH_BYTES);
+        Section[] sections = Section.values();
+        offsets = new int[sections.length];
+        counts = new int[sections.length];
+        for (Section section : sections) {
+            int entry = 16 + HASH_BYTES + section.ordinal() * 8;
+            offsets[section.ordinal()] = buffer.getInt(entry);
+            counts[section.ordinal()] = buffer.getInt(entry + 4);
+            long end = (long) offsets[section.ordinal()] + (long) counts[section.ordinal()] * section.kind.recordBytes;
+            if (offsets[section.ordinal()] < HEADER_BYTES || end > stringsOffset) {
+                throw new IOException("Corrupt catalog section " + section);
+            }
+        }
+        if ((long) stringsOffset + stringsLength > buffer.capacity()) {
+            throw new IOException("Corrupt catalog string table");
+        }
+    }
+
+    /**
+     * Maps an existing catalog file. The mapping outlives the file handle, which is closed here.
+     */
+    public static BinaryCatalog open(Path catalogFile) throws IOException {
+        try (FileChannel channel = FileChannel.open(catalogFile, StandardOpenOption.READ)) {
+            MappedByteBuffer mapped = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            return new BinaryCatalog(mapped);
+        }
+    }
+
+    /**
+     * Opens {@code catalogFile} if it was compiled from the current contents of {@code dataDir},
+     * and otherwise (missing, stale, other version, unreadable) compiles it first.
+     */
+    public static BinaryCatalog openOrCompile(Path dataDir, Path catalogFile) throws IOException {
+        byte[] hash = CatalogCompiler.sourceHash(dataDir);
+        if (Files.isRegularFile(catalogFile)) {
+            try {
+                BinaryCatalog catalog = open(catalogFile);
+                if (Arrays.equals(catalog.sourceHash, hash)) {
+                    return catalog;
+                }
+            } catch (IOException e) {
+                // Fall through and rebuild it.
+            }
+        }
+        CatalogCompiler.compile(dataDir, catalogFile);
+        return open(catalogFile);
+    }
+
+    public byte[] getSourceHash() {
+        return sourceHash.clone();
+    }
+
+    /**
+     * Decodes every record into a new {@link GameData}, equal to what {@link DataLoader} builds.
+     */
+    public GameData toGameData() {
+        GameData data = new GameData();
+        for (HeroClass heroClass : HeroClass.values()) {
+            for (int i = 0; i < heroCount(heroClass); i++) {
+                HeroTemplate hero = hero(heroClass, i);
+                switch (heroClass) {
+                    case WARRIOR:
+                        data.addWarrior(hero);
+                        break;
+                    case SORCERER:
+                        data.addSorcerer(hero);
+                        break;
+                    case PALADIN:
+                        data.addPaladin(hero);
+                        break;
+                    default:
+                        break;
+                }
+            }
+        }
+        for (MonsterType type : MonsterType.values()) {
+            for (int i = 0; i < monsterCount(type); i++) {
+                MonsterTemplate monster = monster(type, i);
+                switch (type) {
+                    case DRAGON:
+                        data.addDragon(monster);
+                        break;
+                    case EXOSKELETON:
+                        data.addExoskeleton(monster);
+                        break;
+                    case SPIRIT:
+                        data.addSpirit(monster);
+                        break;
+                    default:
+                        break;
+                }
+            }
+        }
+        for (int i = 0; i < weaponCount(); i++) {
+            data.addWeapon(weapon(i));
+        }
+        for (int i = 0; i < armorCount(); i++) {
+            data.addArmor(armor(i));
+        }
+        for (int i = 0; i < potionCount(); i++) {
+            data.addPotion(potion(i));
+        }
+        // One list for all spells, in the order DataLoader reads their files.
+        for (SpellType type : new SpellType[] {SpellType.FIRE, SpellType.ICE, SpellType.LIGHTNING}) {
+            for (int i = 0; i < spellCount(type); i++) {
+                data.addSpell(spell(type, i));
+            }
+        }
+        return data;
+    }
+
+    public int heroCount(HeroClass heroClass) {
+        return counts[section(heroClass).ordinal()];
+    }
+
+    public HeroTemplate hero(HeroClass heroClass, int index) {
+        int at = record(section(heroClass), index);
+        return new HeroTemplate(name(at), buffer.getInt(at + 8), buffer.getInt(at + 12), buffer.getInt(at + 16),
+                buffer.getInt(at + 20), buffer.getInt(at + 24), buffer.getInt(at + 28), heroClass);
+    }
+
+    public int monsterCount(MonsterType type) {
+        return counts[section(type).ordinal()];
+    }
+
+    public MonsterTemplate monster(MonsterType type, int index) {
+        int at = record(section(type), index);
+        return new MonsterTemplate(name(at), buffer.getInt(at + 8), buffer.getDouble(at + 12),
+                buffer.getDouble(at + 20), buffer.getDouble(at + 28), type);
+    }
+
+    public int weaponCount() {
+        return counts[Section.WEAPONS.ordinal()];
+    }
+
+    public Weapon weapon(int index) {
+        int at = record(Section.WEAPONS, index);
+        return new Weapon(name(at), buffer.getInt(at + 8), buffer.getInt(at + 12), buffer.getInt(at + 16),
+                buffer.getInt(at + 20));
+    }
+
+    public int armorCount() {
+        return counts[Section.ARMORS.ordinal()];
+    }
+
+    public Armor armor(int index) {
+        int at = record(Section.ARMORS, index);
+        return new Armor(name(at), buffer.getInt(at + 8), buffer.getInt(at + 12), buffer.getInt(at + 16));
+    }
+
+    public int potionCount() {
+        return counts[Section.POTIONS.ordinal()];
+    }
+
+    public Potion potion(int index) {
+        int at = record(Section.POTIONS, index);
+        Attribute attribute = Attribute.values()[buffer.getInt(at + 20)];
+        return new Potion(name(at), buffer.getInt(at + 8), buffer.getInt(at + 12), attribute, buffer.getInt(at + 16));
+    }
+
+    public int spellCount(SpellType type) {
+        return counts[section(type).ordinal()];
+    }
+
+    public Spell spell(SpellType type, int index) {
+        int at = record(section(type), index);
+        return new Spell(name(at), buffer.getInt(at + 8), buffer.getInt(at + 12), buffer.getInt(at + 16),
+                buffer.getInt(at + 20), type);
+    }
+
+    private int record(Section section, int index) {
+        if (index < 0 || index >= counts[section.ordinal()]) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + counts[section.ordinal()]);
+        }
+        return offsets[section.ordinal()] + index * section.kind.recordBytes;
+    }
+
+    private String name(int record) {
+        int length = buffer.getInt(record + 4);
+        byte[] bytes = new byte[length];
+        // A private cursor, so concurrent readers never share the buffer's position.
+        ByteBuffer view = buffer.duplicate();
+        view.position(stringsOffset + buffer.getInt(record));
+        view.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private static Section section(HeroClass heroClass) {
+        switch (heroClass) {
+            case WARRIOR:
+                return Section.WARRIORS;
+            case SORCERER:
+                return Section.SORCERERS;
+            case PALADIN:
+            default:
+                return Section.PALADINS;
+        }
+    }
+
+    private static Section section(MonsterType type) {
+        switch (type) {
+            case DRAGON:
+                return Section.DRAGONS;
+            case EXOSKELETON:
+                return Section.EXOSKELETONS;
+            case SPIRIT:
+            default:
+                return Section.SPIRITS;
+        }
+    }
+
+    private static Section section(SpellType type) {
+        switch (type) {
+            case FIRE:
+                return Section.FIRE_SPELLS;
+            case ICE:
+                return Section.ICE_SPELLS;
+            case LIGHTNING:
+            default:
+                return Section.LIGHTNING_SPELLS;
+        }
+    }
+}
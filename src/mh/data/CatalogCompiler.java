@@ -0,0 +1,194 @@
+package mh.data;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+
+import mh.data.BinaryCatalog.Section;
+
+/**
+ * Compiles the text data files into a {@link BinaryCatalog} file.
+ *
+ * <p>Records are tokenized with the same rules as {@link DataLoader} and stored with their raw
+ * column values, so opening the catalog runs the same constructors (and balancing) as loading the
+ * text. Sources are streamed and hashed in the same pass, records go straight to disk and names to
+ * a side file appended at the end, so compiling needs a few buffers of memory however large the
+ * files are. The catalog is written to a temporary file and moved into place, so a process that
+ * maps the old file keeps a consistent view.</p>
+ */
+public final class CatalogCompiler {
+    private CatalogCompiler() {
+    }
+
+    /**
+     * SHA-256 over the name, length and bytes of every source file, in catalog order.
+     */
+    public static byte[] sourceHash(Path dataDir) throws IOException {
+        MessageDigest sha = newDigest();
+        byte[] buffer = new byte[RecordTokenizer.BUFFER_BYTES];
+        for (Section section : Section.values()) {
+            Path file = dataDir.resolve(section.fileName);
+            beginSource(sha, section, Files.size(file));
+            try (InputStream in = Files.newInputStream(file)) {
+                int read;
+                while ((read = in.read(buffer)) > 0) {
+                    sha.update(buffer, 0, read);
+                }
+            }
+        }
+        return sha.digest();
+    }
+
+    /**
+     * @return the source hash stored in the new catalog
+     */
+    public static byte[] compile(Path dataDir, Path catalogFile) throws IOException {
+        Path absolute = catalogFile.toAbsolutePath();
+        Path temp = Files.createTempFile(absolute.getParent(), absolute.getFileName().toString(), ".tmp");
+        Path names = Files.createTempFile(absolute.getParent(), absolute.getFileName().toString(), ".names");
+        try {
+            MessageDigest sha = newDigest();
+            Section[] sections = Section.values();
+            int[] offsets = new int[sections.length];
+            int[] counts = new int[sections.length];
+            long stringsOffset;
+            long stringsLength;
+            try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.WRITE);
+                 DataOutputStream namesOut = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(names)))) {
+                DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Channels.newOutputStream(channel)));
+                // The header is filled in last, once offsets and the hash are known.
+                out.write(new byte[BinaryCatalog.HEADER_BYTES]);
+                long written = BinaryCatalog.HEADER_BYTES;
+                for (Section section : sections) {
+                    offsets[section.ordinal()] = checkSize(written);
+                    Path file = dataDir.resolve(section.fileName);
+                    beginSource(sha, section, Files.size(file));
+                    try (InputStream in = new DigestInputStream(Files.newInputStream(file), sha)) {
+                        RecordTokenizer record = new RecordTokenizer(in);
+                        while (record.nextRecord()) {
+                            if (record.fieldCount() < section.kind.minFields) continue;
+                            writeRecord(section.kind, record, namesOut, out);
+                            counts[section.ordinal()]++;
+                            written += section.kind.recordBytes;
+                        }
+                    } catch (UncheckedIOException e) {
+                        throw e.getCause();
+                    }
+                }
+                stringsOffset = written;
+                namesOut.flush();
+                stringsLength = namesOut.size();
+                checkSize(stringsOffset + stringsLength);
+                Files.copy(names, out);
+                out.flush();
+
+                ByteBuffer header = ByteBuffer.allocate(BinaryCatalog.HEADER_BYTES);
+                header.putInt(BinaryCatalog.MAGIC);
+                header.putInt(BinaryCatalog.VERSION);
+                byte[] hash = sha.digest();
+                header.put(hash);
+                header.putInt((int) stringsOffset);
+                header.putInt((int) stringsLength);
+                for (int i = 0; i < sections.length; i++) {
+                    header.putInt(offsets[i]);
+                    header.putInt(counts[i]);
+                }
+                header.flip();
+                channel.write(header, 0);
+                channel.force(false);
+                move(temp, absolute);
+                return hash;
+            }
+        } finally {
+            Files.deleteIfExists(temp);
+            Files.deleteIfExists(names);
+        }
+    }
+
+    private static void move(Path temp, Path target) throws IOException {
+        try {
+            Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    // Offsets are ints and a mapping is limited to 2 GB.
+    private static int checkSize(long bytes) throws IOException {
+        if (bytes > Integer.MAX_VALUE) {
+            throw new IOException("Catalog would exceed 2 GB");
+        }
+        return (int) bytes;
+    }
+
+    // Each record starts with the offset and length of its UTF-8 name in the string table.
+    private static void writeRecord(BinaryCatalog.Kind kind, RecordTokenizer record, DataOutputStream names,
+                                    DataOutputStream out) throws IOException {
+        byte[] name = record.string(0).getBytes(StandardCharsets.UTF_8);
+        out.writeInt(names.size());
+        out.writeInt(name.length);
+        names.write(name);
+        switch (kind) {
+            case HERO:
+                for (int field = 1; field <= 5; field++) {
+                    out.writeInt(record.intField(field));
+                }
+                out.writeInt(record.fieldCount() > 6 ? record.intField(6) : 0);
+                break;
+            case MONSTER:
+                out.writeInt(record.intField(1));
+                out.writeDouble(record.doubleField(2));
+                out.writeDouble(record.doubleField(3));
+                out.writeDouble(record.doubleField(4));
+                break;
+            case ARMOR:
+                for (int field = 1; field <= 3; field++) {
+                    out.writeInt(record.intField(field));
+                }
+                break;
+            case POTION:
+                for (int field = 1; field <= 3; field++) {
+                    out.writeInt(record.intField(field));
+                }
+                out.writeInt(DataLoader.potionAttribute(record.string(4)).ordinal());
+                break;
+            case WEAPON:
+            case SPELL:
+            default:
+                for (int field = 1; field <= 4; field++) {
+                    out.writeInt(record.intField(field));
+                }
+                break;
+        }
+    }
+
+    private static MessageDigest newDigest() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("Every JVM provides SHA-256", e);
+        }
+    }
+
+    private static void beginSource(MessageDigest sha, Section section, long length) {
+        sha.update(section.fileName.getBytes(StandardCharsets.UTF_8));
+        sha.update((byte) 0);
+        for (int shift = 56; shift >= 0; shift -= 8) {
+            sha.update((byte) (length >>> shift));
+        }
+    }
+}
@@ -1,11 +1,18 @@
 package mh.data;
 
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Locale;
-import java.util.stream.Collectors;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Function;
 
 import mh.items.Armor;
 import mh.items.Potion;
@@ -13,178 +20,203 @@ import mh.items.Potion.Attribute;
 import mh.items.Spell;
 import mh.items.Spell.SpellType;
 import mh.items.Weapon;
-import mh.model.Hero;
 import mh.model.Hero.HeroClass;
-import mh.model.Monster;
+import mh.model.HeroTemplate;
+import mh.model.MonsterTemplate;
 import mh.model.MonsterType;
 
+/**
+ * Reads the twelve data files into a {@link GameData}.
+ *
+ * <p>Files are read and parsed concurrently on the given executor, each streamed once through a
+ * {@link RecordTokenizer} with a small fixed buffer, so loading never holds a file's text in memory;
+ * only the parsed records are kept. Results are added to the {@code GameData} in the fixed file
+ * order below, so the outcome does not depend on which file finishes first. Every stream is closed
+ * when its file is done, including on errors.</p>
+ */
 public class DataLoader {
     private final Path basePath;
+    private final Executor executor;
 
     public DataLoader(Path basePath) {
+        this(basePath, ForkJoinPool.commonPool());
+    }
+
+    public DataLoader(Path basePath, Executor executor) {
         this.basePath = basePath;
+        this.executor = executor;
+    }
+
+    /**
+     * Loads through a compiled {@link BinaryCatalog} at {@code catalogFile}, first recompiling it if
+     * the text files changed since it was built. Produces the same data as {@link #load()}.
+     */
+    public GameData loadCatalog(Path catalogFile) throws IOException {
+        return BinaryCatalog.openOrCompile(basePath, catalogFile).toGameData();
     }
 
     /**
      * Loads all hero/monster/item records from the configured text files into a {@link GameData} container.
      */
     public GameData load() throws IOException {
+        CompletableFuture<List<HeroTemplate>> warriors = read("Warriors.txt", t -> parseHeroes(t, HeroClass.WARRIOR));
+        CompletableFuture<List<HeroTemplate>> sorcerers = read("Sorcerers.txt", t -> parseHeroes(t, HeroClass.SORCERER));
+        CompletableFuture<List<HeroTemplate>> paladins = read("Paladins.txt", t -> parseHeroes(t, HeroClass.PALADIN));
+        CompletableFuture<List<MonsterTemplate>> dragons = read("Dragons.txt", t -> parseMonsters(t, MonsterType.DRAGON));
+        CompletableFuture<List<MonsterTemplate>> exoskeletons =
+                read("Exoskeletons.txt", t -> parseMonsters(t, MonsterType.EXOSKELETON));
+        CompletableFuture<List<MonsterTemplate>> spirits = read("Spirits.txt", t -> parseMonsters(t, MonsterType.SPIRIT));
+        CompletableFuture<List<Weapon>> weapons = read("Weaponry.txt", DataLoader::parseWeapons);
+        CompletableFuture<List<Armor>> armors = read("Armory.txt", DataLoader::parseArmors);
+        CompletableFuture<List<Potion>> potions = read("Potions.txt", DataLoader::parsePotions);
+        CompletableFuture<List<Spell>> fire = read("FireSpells.txt", t -> parseSpells(t, SpellType.FIRE));
+        CompletableFuture<List<Spell>> ice = read("IceSpells.txt", t -> parseSpells(t, SpellType.ICE));
+        CompletableFuture<List<Spell>> lightning = read("LightningSpells.txt", t -> parseSpells(t, SpellType.LIGHTNING));
+
         GameData data = new GameData();
-        loadHeroes(data, "Warriors.txt", HeroClass.WARRIOR);
-        loadHeroes(data, "Sorcerers.txt", HeroClass.SORCERER);
-        loadHeroes(data, "Paladins.txt", HeroClass.PALADIN);
-        loadMonsters(data, "Dragons.txt", MonsterType.DRAGON);
-        loadMonsters(data, "Exoskeletons.txt", MonsterType.EXOSKELETON);
-        loadMonsters(data, "Spirits.txt", MonsterType.SPIRIT);
-        loadWeapons(data, "Weaponry.txt");
-        loadArmors(data, "Armory.txt");
-        loadPotions(data, "Potions.txt");
-        loadSpells(data, "FireSpells.txt", SpellType.FIRE);
-        loadSpells(data, "IceSpells.txt", SpellType.ICE);
-        loadSpells(data, "LightningSpells.txt", SpellType.LIGHTNING);
+        join(warriors).forEach(data::addWarrior);
+        join(sorcerers).forEach(data::addSorcerer);
+        join(paladins).forEach(data::addPaladin);
+        join(dragons).forEach(data::addDragon);
+        join(exoskeletons).forEach(data::addExoskeleton);
+        join(spirits).forEach(data::addSpirit);
+        join(weapons).forEach(data::addWeapon);
+        join(armors).forEach(data::addArmor);
+        join(potions).forEach(data::addPotion);
+        join(fire).forEach(data::addSpell);
+        join(ice).forEach(data::addSpell);
+        join(lightning).forEach(data::addSpell);
         return data;
     }
 
+    private <T> CompletableFuture<List<T>> read(String fileName, Function<RecordTokenizer, List<T>> parser) {
+        Path filePath = basePath.resolve(fileName);
+        return CompletableFuture.supplyAsync(() -> {
+            try (InputStream in = Files.newInputStream(filePath)) {
+                return parser.apply(new RecordTokenizer(in));
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }, executor);
+    }
+
+    private static <T> List<T> join(CompletableFuture<List<T>> file) throws IOException {
+        try {
+            return file.join();
+        } catch (CompletionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof UncheckedIOException) {
+                throw ((UncheckedIOException) cause).getCause();
+            }
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            throw e;
+        }
+    }
+
     /**
-     * File parsing helpers below assume whitespace-separated columns and skip the first header line.
+     * File parsing helpers below assume whitespace-separated columns; the tokenizer skips the header line.
      */
-    private void loadHeroes(GameData data, String fileName, HeroClass heroClass) throws IOException {
-        List<String> lines = readDataLines(fileName);
-        for (String line : lines) {
-            String[] parts = line.trim().split("\\s+");
-            if (parts.length < 6) continue;
-            String name = parts[0];
-            int mana = Integer.parseInt(parts[1]);
-            int strength = Integer.parseInt(parts[2]);
-            int agility = Integer.parseInt(parts[3]);
-            int dexterity = Integer.parseInt(parts[4]);
-            int money = Integer.parseInt(parts[5]);
-            int exp = parts.length > 6 ? Integer.parseInt(parts[6]) : 0;
-            Hero hero = new Hero(name, mana, strength, agility, dexterity, money, exp, heroClass);
-            switch (heroClass) {
-                case WARRIOR:
-                    data.addWarrior(hero);
-                    break;
-                case SORCERER:
-                    data.addSorcerer(hero);
-                    break;
-                case PALADIN:
-                    data.addPaladin(hero);
-                    break;
-                default:
-                    break;
-            }
+    private static List<HeroTemplate> parseHeroes(RecordTokenizer record, HeroClass heroClass) {
+        List<HeroTemplate> heroes = new ArrayList<>();
+        while (record.nextRecord()) {
+            if (record.fieldCount() < 6) continue;
+            String name = record.string(0);
+            int mana = record.intField(1);
+            int strength = record.intField(2);
+            int agility = record.intField(3);
+            int dexterity = record.intField(4);
+            int money = record.intField(5);
+            int exp = record.fieldCount() > 6 ? record.intField(6) : 0;
+            heroes.add(new HeroTemplate(name, mana, strength, agility, dexterity, money, exp, heroClass));
         }
+        return heroes;
     }
 
-    private void loadMonsters(GameData data, String fileName, MonsterType type) throws IOException {
-        List<String> lines = readDataLines(fileName);
-        for (String line : lines) {
-            String[] parts = line.trim().split("\\s+");
-            if (parts.length < 5) continue;
-            String name = parts[0];
-            int level = Integer.parseInt(parts[1]);
-            double damage = Double.parseDouble(parts[2]);
-            double defense = Double.parseDouble(parts[3]);
-            double dodge = Double.parseDouble(parts[4]);
-            Monster monster = new Monster(name, level, damage, defense, dodge, type);
-            switch (type) {
-                case DRAGON:
-                    data.addDragon(monster);
-                    break;
-                case EXOSKELETON:
-                    data.addExoskeleton(monster);
-                    break;
-                case SPIRIT:
-                    data.addSpirit(monster);
-                    break;
-                default:
-                    break;
-            }
+    private static List<MonsterTemplate> parseMonsters(RecordTokenizer record, MonsterType type) {
+        List<MonsterTemplate> monsters = new ArrayList<>();
+        while (record.nextRecord()) {
+            if (record.fieldCount() < 5) continue;
+            String name = record.string(0);
+            int level = record.intField(1);
+            double damage = record.doubleField(2);
+            double defense = record.doubleField(3);
+            double dodge = record.doubleField(4);
+            monsters.add(new MonsterTemplate(name, level, damage, defense, dodge, type));
         }
+        return monsters;
     }
 
-    private void loadWeapons(GameData data, String fileName) throws IOException {
-        List<String> lines = readDataLines(fileName);
-        for (String line : lines) {
-            String[] parts = line.trim().split("\\s+");
-            if (parts.length < 5) continue;
-            String name = parts[0];
-            int cost = Integer.parseInt(parts[1]);
-            int level = Integer.parseInt(parts[2]);
-            int damage = Integer.parseInt(parts[3]);
-            int hands = Integer.parseInt(parts[4]);
-            data.addWeapon(new Weapon(name, cost, level, damage, hands));
+    private static List<Weapon> parseWeapons(RecordTokenizer record) {
+        List<Weapon> weapons = new ArrayList<>();
+        while (record.nextRecord()) {
+            if (record.fieldCount() < 5) continue;
+            String name = record.string(0);
+            int cost = record.intField(1);
+            int level = record.intField(2);
+            int damage = record.intField(3);
+            int hands = record.intField(4);
+            weapons.add(new Weapon(name, cost, level, damage, hands));
         }
+        return weapons;
     }
 
-    private void loadArmors(GameData data, String fileName) throws IOException {
-        List<String> lines = readDataLines(fileName);
-        for (String line : lines) {
-            String[] parts = line.trim().split("\\s+");
-            if (parts.length < 4) continue;
-            String name = parts[0];
-            int cost = Integer.parseInt(parts[1]);
-            int level = Integer.parseInt(parts[2]);
-            int reduction = Integer.parseInt(parts[3]);
-            data.addArmor(new Armor(name, cost, level, reduction));
+    private static List<Armor> parseArmors(RecordTokenizer record) {
+        List<Armor> armors = new ArrayList<>();
+        while (record.nextRecord()) {
+            if (record.fieldCount() < 4) continue;
+            String name = record.string(0);
+            int cost = record.intField(1);
+            int level = record.intField(2);
+            int reduction = record.intField(3);
+            armors.add(new Armor(name, cost, level, reduction));
         }
+        return armors;
     }
 
-    private void loadPotions(GameData data, String fileName) throws IOException {
-        List<String> lines = readDataLines(fileName);
-        for (String line : lines) {
-            String[] parts = line.trim().split("\\s+");
-            if (parts.length < 5) continue;
-            String name = parts[0];
-            int cost = Integer.parseInt(parts[1]);
-            int level = Integer.parseInt(parts[2]);
-            int amount = Integer.parseInt(parts[3]);
-            String attrText = parts[4].toUpperCase(Locale.US);
-            Attribute attribute;
-            switch (attrText) {
-                case "HEALTH":
-                    attribute = Attribute.HP;
-                    break;
-                case "MANA":
-                    attribute = Attribute.MP;
-                    break;
-                case "STRENGTH":
-                    attribute = Attribute.STRENGTH;
-                    break;
-                case "DEXTERITY":
-                    attribute = Attribute.DEXTERITY;
-                    break;
-                case "AGILITY":
-                    attribute = Attribute.AGILITY;
-                    break;
-                default:
-                    attribute = Attribute.HP;
-            }
-            data.addPotion(new Potion(name, cost, level, attribute, amount));
+    private static List<Potion> parsePotions(RecordTokenizer record) {
+        List<Potion> potions = new ArrayList<>();
+        while (record.nextRecord()) {
+            if (record.fieldCount() < 5) continue;
+            String name = record.string(0);
+            int cost = record.intField(1);
+            int level = record.intField(2);
+            int amount = record.intField(3);
+            Attribute attribute = potionAttribute(record.string(4));
+            potions.add(new Potion(name, cost, level, attribute, amount));
         }
+        return potions;
     }
 
-    private void loadSpells(GameData data, String fileName, SpellType type) throws IOException {
-        List<String> lines = readDataLines(fileName);
-        for (String line : lines) {
-            String[] parts = line.trim().split("\\s+");
-            if (parts.length < 5) continue;
-            String name = parts[0];
-            int cost = Integer.parseInt(parts[1]);
-            int level = Integer.parseInt(parts[2]);
-            int damage = Integer.parseInt(parts[3]);
-            int mana = Integer.parseInt(parts[4]);
-            data.addSpell(new Spell(name, cost, level, damage, mana, type));
+    static Attribute potionAttribute(String attrText) {
+        switch (attrText.toUpperCase(Locale.US)) {
+            case "HEALTH":
+                return Attribute.HP;
+            case "MANA":
+                return Attribute.MP;
+            case "STRENGTH":
+                return Attribute.STRENGTH;
+            case "DEXTERITY":
+                return Attribute.DEXTERITY;
+            case "AGILITY":
+                return Attribute.AGILITY;
+            default:
+                return Attribute.HP;
         }
     }
 
-    private List<String> readDataLines(String fileName) throws IOException {
-        Path filePath = basePath.resolve(fileName);
-        return Files.lines(filePath)
-                .skip(1) // remove header
-                .map(String::trim)
-                .filter(line -> !line.isEmpty())
-                .collect(Collectors.toList());
+    private static List<Spell> parseSpells(RecordTokenizer record, SpellType type) {
+        List<Spell> spells = new ArrayList<>();
+        while (record.nextRecord()) {
+            if (record.fieldCount() < 5) continue;
+            String name = record.string(0);
+            int cost = record.intField(1);
+            int level = record.intField(2);
+            int damage = record.intField(3);
+            int mana = record.intField(4);
+            spells.add(new Spell(name, cost, level, damage, mana, type));
+        }
+        return spells;
     }
 }
@@ -1,47 +1,99 @@
 package mh.data;
 
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
 import java.util.List;
+import java.util.Map;
 
 import mh.items.Armor;
+import mh.items.ItemCatalog;
 import mh.items.Potion;
 import mh.items.Spell;
 import mh.items.Weapon;
-import mh.model.Hero;
-import mh.model.Monster;
+import mh.model.EncounterTable;
+import mh.model.EncounterWeights;
+import mh.model.HeroTemplate;
+import mh.model.MonsterTemplate;
 
 public class GameData {
-    private final List<Hero> warriors = new ArrayList<>();
-    private final List<Hero> sorcerers = new ArrayList<>();
-    private final List<Hero> paladins = new ArrayList<>();
-    private final List<Monster> dragons = new ArrayList<>();
-    private final List<Monster> exoskeletons = new ArrayList<>();
-    private final List<Monster> spirits = new ArrayList<>();
+    private final List<HeroTemplate> warriors = new ArrayList<>();
+    private final List<HeroTemplate> sorcerers = new ArrayList<>();
+    private final List<HeroTemplate> paladins = new ArrayList<>();
+    private final List<MonsterTemplate> dragons = new ArrayList<>();
+    private final List<MonsterTemplate> exoskeletons = new ArrayList<>();
+    private final List<MonsterTemplate> spirits = new ArrayList<>();
     private final List<Weapon> weapons = new ArrayList<>();
     private final List<Armor> armors = new ArrayList<>();
     private final List<Potion> potions = new ArrayList<>();
     private final List<Spell> spells = new ArrayList<>();
+    private ItemCatalog itemCatalog;
+    private GameIndex index;
+    private final Map<EncounterWeights, EncounterTable> encounterTables = new IdentityHashMap<>();
+    private volatile boolean sealed;
 
-    // Simple in-memory DTO for all parsed game records; lists are mutable for loader convenience.
-    public List<Hero> getWarriors() { return warriors; }
-    public List<Hero> getSorcerers() { return sorcerers; }
-    public List<Hero> getPaladins() { return paladins; }
-    public List<Monster> getDragons() { return dragons; }
-    public List<Monster> getExoskeletons() { return exoskeletons; }
-    public List<Monster> getSpirits() { return spirits; }
-    public List<Weapon> getWeapons() { return weapons; }
-    public List<Armor> getArmors() { return armors; }
-    public List<Potion> getPotions() { return potions; }
-    public List<Spell> getSpells() { return spells; }
-
-    public void addWarrior(Hero hero) { warriors.add(hero); }
-    public void addSorcerer(Hero hero) { sorcerers.add(hero); }
-    public void addPaladin(Hero hero) { paladins.add(hero); }
-    public void addDragon(Monster monster) { dragons.add(monster); }
-    public void addExoskeleton(Monster monster) { exoskeletons.add(monster); }
-    public void addSpirit(Monster monster) { spirits.add(monster); }
-    public void addWeapon(Weapon weapon) { weapons.add(weapon); }
-    public void addArmor(Armor armor) { armors.add(armor); }
-    public void addPotion(Potion potion) { potions.add(potion); }
-    public void addSpell(Spell spell) { spells.add(spell); }
+    // Simple in-memory DTO for all parsed game records; loaders fill it through the add methods.
+    // Heroes and monsters are templates: sessions get instances via newHero() and spawn().
+    public List<HeroTemplate> getWarriors() { return Collections.unmodifiableList(warriors); }
+    public List<HeroTemplate> getSorcerers() { return Collections.unmodifiableList(sorcerers); }
+    public List<HeroTemplate> getPaladins() { return Collections.unmodifiableList(paladins); }
+    public List<MonsterTemplate> getDragons() { return Collections.unmodifiableList(dragons); }
+    public List<MonsterTemplate> getExoskeletons() { return Collections.unmodifiableList(exoskeletons); }
+    public List<MonsterTemplate> getSpirits() { return Collections.unmodifiableList(spirits); }
+    public List<Weapon> getWeapons() { return Collections.unmodifiableList(weapons); }
+    public List<Armor> getArmors() { return Collections.unmodifiableList(armors); }
+    public List<Potion> getPotions() { return Collections.unmodifiableList(potions); }
+    public List<Spell> getSpells() { return Collections.unmodifiableList(spells); }
+
+    /**
+     * The loaded items as a shared catalog, built on first use. Building it seals this object.
+     */
+    public synchronized ItemCatalog getItemCatalog() {
+        if (itemCatalog == null) {
+            sealed = true;
+            itemCatalog = ItemCatalog.of(weapons, armors, potions, spells);
+        }
+        return itemCatalog;
+    }
+
+    /**
+     * Name, level and price lookups over everything loaded, built on first use. Building it seals
+     * this object.
+     */
+    public synchronized GameIndex getIndex() {
+        if (index == null) {
+            index = new GameIndex(this, getItemCatalog());
+        }
+        return index;
+    }
+
+    /**
+     * The encounter sampler over {@link GameIndex#getMonsters()} for {@code weights}, shared by every
+     * session using the same weights object. Building it seals this object.
+     */
+    public synchronized EncounterTable getEncounterTable(EncounterWeights weights) {
+        EncounterTable table = encounterTables.get(weights);
+        if (table == null) {
+            table = new EncounterTable(getIndex().getMonsters(), weights);
+            encounterTables.put(weights, table);
+        }
+        return table;
+    }
+
+    public void addWarrior(HeroTemplate hero) { checkOpen(); warriors.add(hero); }
+    public void addSorcerer(HeroTemplate hero) { checkOpen(); sorcerers.add(hero); }
+    public void addPaladin(HeroTemplate hero) { checkOpen(); paladins.add(hero); }
+    public void addDragon(MonsterTemplate monster) { checkOpen(); dragons.add(monster); }
+    public void addExoskeleton(MonsterTemplate monster) { checkOpen(); exoskeletons.add(monster); }
+    public void addSpirit(MonsterTemplate monster) { checkOpen(); spirits.add(monster); }
+    public void addWeapon(Weapon weapon) { checkOpen(); weapons.add(weapon); }
+    public void addArmor(Armor armor) { checkOpen(); armors.add(armor); }
+    public void addPotion(Potion potion) { checkOpen(); potions.add(potion); }
+    public void addSpell(Spell spell) { checkOpen(); spells.add(spell); }
+
+    private void checkOpen() {
+        if (sealed) {
+            throw new IllegalStateException("Game data cannot change once its catalog or index is built");
+        }
+    }
 }
@@ -0,0 +1,225 @@
+package mh.data;
+
+import java.io.IOException;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.FileSystems;
+import java.nio.file.Path;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import mh.items.Item;
+import mh.model.HeroTemplate;
+import mh.model.MonsterTemplate;
+
+/**
+ * Keeps a current {@link GameData} snapshot and replaces it when the data files change on disk.
+ *
+ * <p>A daemon thread watches the data directory with a {@link WatchService}. Once changes to any
+ * of the data files have been quiet for {@link #SETTLE_MILLIS} (editors often write a file in
+ * several steps), it loads everything again, validates it, seals it by building its catalog and
+ * index, and only then publishes it. A load or validation failure keeps the previous snapshot.
+ * Readers call {@link #current()} whenever they are ready to switch, and keep using what they have
+ * until then: snapshots never change after publication.</p>
+ */
+public final class GameDataReloader implements AutoCloseable {
+    static final long SETTLE_MILLIS = 200;
+
+    /**
+     * How to build a snapshot, e.g. {@code loader::load} or {@code () -> loader.loadCatalog(file)}.
+     */
+    public interface Source {
+        GameData load() throws IOException;
+    }
+
+    /**
+     * Reload notifications, delivered on the watcher thread.
+     */
+    public interface Listener {
+        Listener NO_OP = new Listener() {};
+
+        default void onReloaded(GameData data) {}
+
+        default void onReloadFailed(Exception cause) {}
+    }
+
+    private final Path dataDir;
+    private final Source source;
+    private final AtomicReference<GameData> current = new AtomicReference<>();
+    private final Set<String> watchedFiles = new HashSet<>();
+    private volatile Listener listener = Listener.NO_OP;
+    private WatchService watchService;
+    private Thread watcher;
+
+    /**
+     * Loads the first snapshot right away; a failure here is thrown rather than reported.
+     */
+    public GameDataReloader(Path dataDir, Source source) throws IOException {
+        this.dataDir = dataDir;
+        this.source = source;
+        for (BinaryCatalog.Section section : BinaryCatalog.Section.values()) {
+            watchedFiles.add(section.fileName);
+        }
+        current.set(prepare(source.load()));
+    }
+
+    public GameData current() {
+        return current.get();
+    }
+
+    public void setListener(Listener listener) {
+        this.listener = listener != null ? listener : Listener.NO_OP;
+    }
+
+    /**
+     * Starts watching the data directory.
+     */
+    public synchronized void start() throws IOException {
+        if (watcher != null) {
+            return;
+        }
+        watchService = FileSystems.getDefault().newWatchService();
+        dataDir.register(watchService, StandardWatchEventKinds.ENTRY_CREATE, StandardWatchEventKinds.ENTRY_MODIFY);
+        watcher = new Thread(this::watch, "game-data-reloader");
+        watcher.setDaemon(true);
+        watcher.start();
+    }
+
+    /**
+     * Loads, validates and publishes a new snapshot now, on the calling thread.
+     *
+     * @return whether a new snapshot was published
+     */
+    public boolean reload() {
+        GameData data;
+        try {
+            data = prepare(source.load());
+        } catch (IOException | RuntimeException e) {
+            listener.onReloadFailed(e);
+            return false;
+        }
+        current.set(data);
+        listener.onReloaded(data);
+        return true;
+    }
+
+    @Override
+    public synchronized void close() throws IOException {
+        if (watchService != null) {
+            watchService.close();
+            watcher.interrupt();
+            watchService = null;
+            watcher = null;
+        }
+    }
+
+    private void watch() {
+        WatchService service = watchService;
+        try {
+            while (true) {
+                WatchKey key = service.take();
+                boolean relevant = drain(key);
+                // Let a burst of writes settle before reading anything.
+                while ((key = service.poll(SETTLE_MILLIS, TimeUnit.MILLISECONDS)) != null) {
+                    relevant |= drain(key);
+                }
+                if (relevant) {
+                    reload();
+                }
+            }
+        } catch (InterruptedException | ClosedWatchServiceException e) {
+            // closed
+        }
+    }
+
+    private boolean drain(WatchKey key) {
+        boolean relevant = false;
+        for (WatchEvent<?> event : key.pollEvents()) {
+            Object context = event.context();
+            relevant |= event.kind() == StandardWatchEventKinds.OVERFLOW
+                    || context instanceof Path && watchedFiles.contains(context.toString());
+        }
+        key.reset();
+        return relevant;
+    }
+
+    private static GameData prepare(GameData data) {
+        validate(data);
+        data.getIndex();
+        return data;
+    }
+
+    /**
+     * Rejects data a session could not play with: empty categories, duplicate names within a
+     * category, levels below 1 and negative prices.
+     */
+    static void validate(GameData data) {
+        List<String> problems = new ArrayList<>();
+        checkHeroes("warriors", data.getWarriors(), problems);
+        checkHeroes("sorcerers", data.getSorcerers(), problems);
+        checkHeroes("paladins", data.getPaladins(), problems);
+        checkMonsters("dragons", data.getDragons(), problems);
+        checkMonsters("exoskeletons", data.getExoskeletons(), problems);
+        checkMonsters("spirits", data.getSpirits(), problems);
+        checkItems("weapons", data.getWeapons(), problems);
+        checkItems("armor", data.getArmors(), problems);
+        checkItems("potions", data.getPotions(), problems);
+        checkItems("spells", data.getSpells(), problems);
+        if (!problems.isEmpty()) {
+            throw new IllegalArgumentException("Invalid game data: " + String.join("; ", problems));
+        }
+    }
+
+    private static void checkHeroes(String category, List<HeroTemplate> heroes, List<String> problems) {
+        Set<String> names = new HashSet<>();
+        if (heroes.isEmpty()) {
+            problems.add("no " + category);
+        }
+        for (HeroTemplate hero : heroes) {
+            checkName(category, hero.getName(), names, problems);
+        }
+    }
+
+    private static void checkMonsters(String category, List<MonsterTemplate> monsters, List<String> problems) {
+        Set<String> names = new HashSet<>();
+        if (monsters.isEmpty()) {
+            problems.add("no " + category);
+        }
+        for (MonsterTemplate monster : monsters) {
+            checkName(category, monster.getName(), names, problems);
+            if (monster.getLevel() < 1) {
+                problems.add(category + ": " + monster.getName() + " has level " + monster.getLevel());
+            }
+        }
+    }
+
+    private static void checkItems(String category, List<? extends Item> items, List<String> problems) {
+        Set<String> names = new HashSet<>();
+        if (items.isEmpty()) {
+            problems.add("no " + category);
+        }
+        for (Item item : items) {
+            checkName(category, item.getName(), names, problems);
+            if (item.getLevelRequirement() < 1) {
+                problems.add(category + ": " + item.getName() + " requires level " + item.getLevelRequirement());
+            }
+            if (item.getPrice() < 0) {
+                problems.add(category + ": " + item.getName() + " costs " + item.getPrice());
+            }
+        }
+    }
+
+    private static void checkName(String category, String name, Set<String> seen, List<String> problems) {
+        if (!seen.add(name.toLowerCase(Locale.ROOT))) {
+            problems.add(category + ": duplicate " + name);
+        }
+    }
+}
@@ -0,0 +1,233 @@
+package mh.data;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.ToIntFunction;
+
+import mh.items.Armor;
+import mh.items.Item;
+import mh.items.ItemCatalog;
+import mh.items.Potion;
+import mh.items.Spell;
+import mh.items.Weapon;
+import mh.model.HeroTemplate;
+import mh.model.MonsterTemplate;
+import mh.model.MonsterType;
+
+/**
+ * Immutable lookup structures over a loaded {@link GameData}; obtain it with {@link GameData#getIndex()}.
+ *
+ * <p>Names are looked up case-insensitively in hash maps. Monsters are kept sorted by level, per
+ * type and overall, and items per category sorted by level and price, so range queries are two
+ * binary searches returning a view of the matching run. "What can a hero equip and afford" walks
+ * one price-sorted run per distinct level requirement, which stays cheap however many records the
+ * files grow to. Items are the shared catalog templates: look, but instantiate before handing one out.</p>
+ */
+public final class GameIndex {
+    private final Map<String, HeroTemplate> heroesByName = new HashMap<>();
+    private final Map<String, MonsterTemplate> monstersByName = new HashMap<>();
+    private final Map<String, Item> itemsByName = new HashMap<>();
+    private final List<MonsterTemplate> monsters;
+    private final Sorted<MonsterTemplate> monstersByLevel;
+    private final Map<MonsterType, Sorted<MonsterTemplate>> monstersByType = new EnumMap<>(MonsterType.class);
+    private final Shelf<Weapon> weapons;
+    private final Shelf<Armor> armors;
+    private final Shelf<Potion> potions;
+    private final Shelf<Spell> spells;
+
+    GameIndex(GameData data, ItemCatalog catalog) {
+        for (List<HeroTemplate> heroes : Arrays.asList(data.getWarriors(), data.getSorcerers(), data.getPaladins())) {
+            for (HeroTemplate hero : heroes) {
+                heroesByName.putIfAbsent(nameKey(hero.getName()), hero);
+            }
+        }
+        List<MonsterTemplate> allMonsters = new ArrayList<>();
+        allMonsters.addAll(data.getDragons());
+        allMonsters.addAll(data.getExoskeletons());
+        allMonsters.addAll(data.getSpirits());
+        for (MonsterTemplate monster : allMonsters) {
+            monstersByName.putIfAbsent(nameKey(monster.getName()), monster);
+        }
+        monsters = Collections.unmodifiableList(allMonsters);
+        monstersByLevel = new Sorted<>(allMonsters, MonsterTemplate::getLevel);
+        monstersByType.put(MonsterType.DRAGON, new Sorted<>(data.getDragons(), MonsterTemplate::getLevel));
+        monstersByType.put(MonsterType.EXOSKELETON, new Sorted<>(data.getExoskeletons(), MonsterTemplate::getLevel));
+        monstersByType.put(MonsterType.SPIRIT, new Sorted<>(data.getSpirits(), MonsterTemplate::getLevel));
+        for (int id = 0; id < catalog.size(); id++) {
+            itemsByName.putIfAbsent(nameKey(catalog.template(id).getName()), catalog.template(id));
+        }
+        weapons = new Shelf<>(catalog.getWeapons());
+        armors = new Shelf<>(catalog.getArmors());
+        potions = new Shelf<>(catalog.getPotions());
+        spells = new Shelf<>(catalog.getSpells());
+    }
+
+    public Optional<HeroTemplate> findHero(String name) {
+        return Optional.ofNullable(heroesByName.get(nameKey(name)));
+    }
+
+    public Optional<MonsterTemplate> findMonster(String name) {
+        return Optional.ofNullable(monstersByName.get(nameKey(name)));
+    }
+
+    public Optional<Item> findItem(String name) {
+        return Optional.ofNullable(itemsByName.get(nameKey(name)));
+    }
+
+    /**
+     * Every monster in load order (dragons, exoskeletons, spirits), without copying.
+     */
+    public List<MonsterTemplate> getMonsters() {
+        return monsters;
+    }
+
+    /**
+     * Monsters of any type within the level range, sorted by level (ties in load order).
+     */
+    public List<MonsterTemplate> getMonsters(int minLevel, int maxLevel) {
+        return monstersByLevel.range(minLevel, maxLevel);
+    }
+
+    public List<MonsterTemplate> getMonsters(MonsterType type, int minLevel, int maxLevel) {
+        return monstersByType.get(type).range(minLevel, maxLevel);
+    }
+
+    public Shelf<Weapon> getWeapons() {
+        return weapons;
+    }
+
+    public Shelf<Armor> getArmors() {
+        return armors;
+    }
+
+    public Shelf<Potion> getPotions() {
+        return potions;
+    }
+
+    public Shelf<Spell> getSpells() {
+        return spells;
+    }
+
+    /**
+     * Items of every category a hero of {@code level} may use and can pay for with {@code gold},
+     * grouped weapons, armor, potions, spells.
+     */
+    public List<Item> available(int level, int gold) {
+        List<Item> result = new ArrayList<>();
+        result.addAll(weapons.available(level, gold));
+        result.addAll(armors.available(level, gold));
+        result.addAll(potions.available(level, gold));
+        result.addAll(spells.available(level, gold));
+        return result;
+    }
+
+    private static String nameKey(String name) {
+        return name.toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * One item category, kept sorted by level requirement and by price.
+     */
+    public static final class Shelf<T extends Item> {
+        private final Sorted<T> byLevel;
+        private final Sorted<T> byPrice;
+        // One price-sorted run per distinct level requirement, ascending.
+        private final int[] levels;
+        private final List<Sorted<T>> pricesAtLevel = new ArrayList<>();
+
+        private Shelf(List<T> items) {
+            List<T> ordered = new ArrayList<>(items);
+            ordered.sort(Comparator.comparingInt(Item::getPrice));
+            byPrice = new Sorted<>(ordered, Item::getPrice);
+            // The sort is stable, so each level's run stays in price order.
+            ordered.sort(Comparator.comparingInt(Item::getLevelRequirement));
+            byLevel = new Sorted<>(ordered, Item::getLevelRequirement);
+            int[] distinct = new int[ordered.size()];
+            int count = 0;
+            int from = 0;
+            while (from < ordered.size()) {
+                int level = ordered.get(from).getLevelRequirement();
+                int to = from;
+                while (to < ordered.size() && ordered.get(to).getLevelRequirement() == level) {
+                    to++;
+                }
+                distinct[count++] = level;
+                pricesAtLevel.add(new Sorted<>(ordered.subList(from, to), Item::getPrice));
+                from = to;
+            }
+            levels = Arrays.copyOf(distinct, count);
+        }
+
+        /**
+         * Sorted by level requirement, then price.
+         */
+        public List<T> all() {
+            return byLevel.all;
+        }
+
+        public List<T> withLevel(int minLevel, int maxLevel) {
+            return byLevel.range(minLevel, maxLevel);
+        }
+
+        public List<T> withPrice(int minPrice, int maxPrice) {
+            return byPrice.range(minPrice, maxPrice);
+        }
+
+        /**
+         * Items with level requirement at most {@code level} and price at most {@code gold}, sorted
+         * by level requirement, then price.
+         */
+        public List<T> available(int level, int gold) {
+            List<T> result = new ArrayList<>();
+            for (int i = 0; i < levels.length && levels[i] <= level; i++) {
+                result.addAll(pricesAtLevel.get(i).range(Integer.MIN_VALUE, gold));
+            }
+            return result;
+        }
+    }
+
+    // Values in ascending key order, with the keys alongside for binary search.
+    private static final class Sorted<T> {
+        private final List<T> all;
+        private final int[] keys;
+
+        Sorted(List<T> values, ToIntFunction<? super T> key) {
+            List<T> ordered = new ArrayList<>(values);
+            ordered.sort(Comparator.comparingInt(key));
+            this.all = Collections.unmodifiableList(ordered);
+            this.keys = new int[ordered.size()];
+            for (int i = 0; i < keys.length; i++) {
+                keys[i] = key.applyAsInt(ordered.get(i));
+            }
+        }
+
+        List<T> range(int min, int max) {
+            if (min > max) {
+                return Collections.emptyList();
+            }
+            return all.subList(firstAtLeast(min), max == Integer.MAX_VALUE ? keys.length : firstAtLeast(max + 1));
+        }
+
+        private int firstAtLeast(int key) {
+            int low = 0;
+            int high = keys.length;
+            while (low < high) {
+                int mid = (low + high) >>> 1;
+                if (keys[mid] < key) {
+                    low = mid + 1;
+                } else {
+                    high = mid;
+                }
+            }
+            return low;
+        }
+    }
+}
@@ -0,0 +1,194 @@
+package mh.data;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * Single-pass reader over one whitespace-separated data file, either fully in memory or streamed.
+ *
+ * <p>The first line is a header and is skipped, as are blank lines. {@link #nextRecord} finds the
+ * field boundaries of the next line without copying it; numeric fields are parsed in place and
+ * only {@link #string} creates an object. Field rules match {@code line.trim().split("\\s+")}
+ * followed by {@code Integer.parseInt}/{@code Double.parseDouble}.</p>
+ *
+ * <p>A streamed file is read through a fixed buffer that only grows to fit a single line longer
+ * than it, so memory does not depend on the file size. Field accessors refer to the current record
+ * and are invalid after the next call to {@link #nextRecord}.</p>
+ */
+final class RecordTokenizer {
+    // The widest record (heroes) has seven columns; anything after this is counted but not located.
+    private static final int MAX_FIELDS = 8;
+    static final int BUFFER_BYTES = 8 * 1024;
+
+    private final InputStream in;
+    private byte[] data;
+    private int limit;
+    private final int[] starts = new int[MAX_FIELDS];
+    private final int[] ends = new int[MAX_FIELDS];
+    private int position;
+    private int fields;
+    private boolean headerPending = true;
+
+    RecordTokenizer(byte[] data) {
+        this.in = null;
+        this.data = data;
+        this.limit = data.length;
+    }
+
+    /**
+     * Streams records from {@code in}, which the caller closes.
+     */
+    RecordTokenizer(InputStream in) {
+        this.in = in;
+        this.data = new byte[BUFFER_BYTES];
+    }
+
+    /**
+     * Moves to the next non-blank line after the header; returns false at the end of the file.
+     *
+     * @throws UncheckedIOException if reading a streamed file fails
+     */
+    boolean nextRecord() {
+        int scanned = 0;
+        while (true) {
+            int end = position + scanned;
+            while (end < limit && data[end] != '\n') {
+                end++;
+            }
+            if (end == limit) {
+                // No complete line buffered: remember how far we looked, then read more.
+                scanned = end - position;
+                if (fill()) {
+                    continue;
+                }
+                if (position >= limit) {
+                    return false;
+                }
+                end = limit;
+            }
+            boolean header = headerPending;
+            headerPending = false;
+            tokenize(position, end);
+            // Step over the newline, if the file has one after this line.
+            position = end < limit ? end + 1 : end;
+            scanned = 0;
+            if (!header && fields > 0) {
+                return true;
+            }
+        }
+    }
+
+    private void tokenize(int from, int end) {
+        fields = 0;
+        int i = from;
+        while (i < end) {
+            while (i < end && isWhitespace(data[i])) {
+                i++;
+            }
+            if (i == end) {
+                break;
+            }
+            int start = i;
+            while (i < end && !isWhitespace(data[i])) {
+                i++;
+            }
+            if (fields < MAX_FIELDS) {
+                starts[fields] = start;
+                ends[fields] = i;
+            }
+            fields++;
+        }
+    }
+
+    // Keeps the unread bytes, moved to the front, and appends more; false at end of input.
+    private boolean fill() {
+        if (in == null) {
+            return false;
+        }
+        int unread = limit - position;
+        if (unread == data.length) {
+            data = Arrays.copyOf(data, data.length * 2);
+        } else if (position > 0) {
+            System.arraycopy(data, position, data, 0, unread);
+        }
+        position = 0;
+        limit = unread;
+        try {
+            int read = in.read(data, limit, data.length - limit);
+            if (read <= 0) {
+                return false;
+            }
+            limit += read;
+            return true;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    int fieldCount() {
+        return fields;
+    }
+
+    String string(int field) {
+        return new String(data, starts[field], ends[field] - starts[field], StandardCharsets.UTF_8);
+    }
+
+    int intField(int field) {
+        int i = starts[field];
+        int end = ends[field];
+        boolean negative = data[i] == '-';
+        if (negative || data[i] == '+') {
+            i++;
+        }
+        // Ten digits cannot overflow a long, so range-check once at the end.
+        if (i == end || end - i > 10) {
+            throw invalid(field);
+        }
+        long value = 0;
+        for (; i < end; i++) {
+            int digit = data[i] - '0';
+            if (digit < 0 || digit > 9) {
+                throw invalid(field);
+            }
+            value = value * 10 + digit;
+        }
+        value = negative ? -value : value;
+        if (value < Integer.MIN_VALUE || value > Integer.MAX_VALUE) {
+            throw invalid(field);
+        }
+        return (int) value;
+    }
+
+    double doubleField(int field) {
+        int start = starts[field];
+        int end = ends[field];
+        int i = data[start] == '-' || data[start] == '+' ? start + 1 : start;
+        // Whole numbers below 2^53 convert exactly; anything else goes through the JDK parser.
+        if (i < end && end - i <= 15) {
+            long value = 0;
+            for (; i < end; i++) {
+                int digit = data[i] - '0';
+                if (digit < 0 || digit > 9) {
+                    break;
+                }
+                value = value * 10 + digit;
+            }
+            if (i == end) {
+                return data[start] == '-' ? -(double) value : value;
+            }
+        }
+        return Double.parseDouble(string(field));
+    }
+
+    private NumberFormatException invalid(int field) {
+        return new NumberFormatException("For input string: \"" + string(field) + "\"");
+    }
+
+    // The characters \s matches.
+    private static boolean isWhitespace(byte b) {
+        return b == ' ' || b == '\t' || b == '\r' || b == '\f' || b == 0x0B;
+    }
+}
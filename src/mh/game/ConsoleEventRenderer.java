@@ -0,0 +1,66 @@
+package mh.game;
+
+import mh.items.Armor;
+import mh.items.Item;
+import mh.items.Potion;
+import mh.model.Hero;
+import mh.model.event.DomainEventListener;
+import mh.model.event.EquipRejection;
+import mh.util.GameOutput;
+
+/**
+ * UI-side subscriber that turns model events into the familiar console text.
+ */
+public class ConsoleEventRenderer implements DomainEventListener {
+    private final GameOutput out;
+
+    public ConsoleEventRenderer(GameOutput out) {
+        this.out = out;
+    }
+
+    @Override
+    public void onLevelUp(Hero hero, int newLevel) {
+        out.printf("%s leveled up to level %d! Stats increased.%n", hero.getName(), newLevel);
+    }
+
+    @Override
+    public void onPotionApplied(Hero hero, Potion potion, double effect) {
+        switch (potion.getAttribute()) {
+            case HP:
+                out.printf("%s recovers %.0f HP (current: %.0f/%.0f)\n", hero.getName(), effect, hero.getHp(), hero.getMaxHp());
+                break;
+            case MP:
+                out.printf("%s recovers %.0f MP (current: %.0f/%.0f)\n", hero.getName(), effect, hero.getMana(), hero.getMaxMana());
+                break;
+            case STRENGTH:
+                out.printf("%s gains %.0f Strength.\n", hero.getName(), effect);
+                break;
+            case DEXTERITY:
+                out.printf("%s gains %.0f Dexterity.\n", hero.getName(), effect);
+                break;
+            case AGILITY:
+                out.printf("%s gains %.0f Agility.\n", hero.getName(), effect);
+                break;
+            default:
+                break;
+        }
+    }
+
+    @Override
+    public void onItemBroke(Hero hero, Item item) {
+        if (item instanceof Armor) {
+            out.printf("%s's %s crumbled away!%n", hero.getName(), item.getName());
+        } else {
+            out.printf("%s's %s broke!%n", hero.getName(), item.getName());
+        }
+    }
+
+    @Override
+    public void onEquipRejected(Hero hero, Item item, EquipRejection reason) {
+        if (reason == EquipRejection.LEVEL_TOO_LOW) {
+            out.println("Your level is too low to equip this item.");
+        } else {
+            out.println("This item has no durability left.");
+        }
+    }
+}
@@ -9,17 +9,26 @@ import java.util.Map;
 import java.util.Random;
 import java.util.Scanner;
 
+import mh.battle.replay.BattleJournal;
 import mh.battle.strategy.BattleStrategy;
 import mh.battle.strategy.SimpleBattleStrategy;
 import mh.data.DataLoader;
+import mh.data.GameDataReloader;
 import mh.data.GameData;
 import mh.items.Armor;
 import mh.items.Item;
+import mh.items.ItemStack;
 import mh.items.Weapon;
 import mh.market.Market;
+import mh.model.EncounterTable;
+import mh.model.EncounterWeights;
 import mh.model.Hero;
+import mh.model.HeroTemplate;
 import mh.model.Monster;
+import mh.model.MonsterPool;
+import mh.util.BufferedConsoleOutput;
 import mh.util.ColorUtil;
+import mh.util.GameOutput;
 import mh.world.Position;
 import mh.world.WorldMap;
 import mh.world.tile.CommonSpace;
@@ -27,33 +36,76 @@ import mh.world.tile.MarketSpace;
 import mh.world.tile.Space;
 
 public class GameEngine extends RPGGame {
+    private static final int MONSTER_POOL_SIZE = 32;
+
     private final Scanner scanner;
     private final Random random;
+    private final GameOutput out;
+    private final ConsoleEventRenderer eventRenderer;
     // FEATURE FROM LEONARDO: GameEngine orchestrates systems through a BattleStrategy.
     private final BattleStrategy battleStrategy;
     private GameData data;
+    private GameDataReloader reloader;
     private Party party;
     private WorldMap worldMap;
     private int safeStepsRemaining = 2;
     private final Map<String, Market> marketCache = new HashMap<>();
+    // Encounter monsters are recycled after each battle instead of being left to the GC.
+    private final MonsterPool monsterPool = new MonsterPool(MONSTER_POOL_SIZE);
+    private EncounterWeights encounterWeights = EncounterWeights.UNIFORM;
+    // Built for the current snapshot; replaced only when the data or the weights change.
+    private EncounterTable encounters;
 
     public GameEngine() {
         this(new Scanner(System.in), new Random());
     }
 
     public GameEngine(Scanner scanner, Random random) {
+        this(scanner, random, new BufferedConsoleOutput());
+    }
+
+    public GameEngine(Scanner scanner, Random random, GameOutput out) {
         this.scanner = scanner;
         this.random = random;
-        this.battleStrategy = new SimpleBattleStrategy(scanner, random);
+        this.out = out;
+        this.eventRenderer = new ConsoleEventRenderer(out);
+        SimpleBattleStrategy strategy = new SimpleBattleStrategy(scanner, random, out);
+        // Opt-in replay journal, e.g. -Dmh.battleJournal=battles.journal, for reproducing bug reports.
+        String journal = System.getProperty("mh.battleJournal");
+        if (journal != null && !journal.isEmpty()) {
+            strategy.setRecorder(new BattleJournal(Paths.get(journal)));
+        }
+        this.battleStrategy = strategy;
+    }
+
+    /**
+     * Changes how likely each monster is to appear; takes effect from the next encounter.
+     */
+    public void setEncounterWeights(EncounterWeights weights) {
+        this.encounterWeights = weights;
+        this.encounters = null;
     }
 
     @Override
     protected void initGame() {
-        System.out.println("Welcome to Legends: Monsters and Heroes!");
+        out.println("Welcome to Legends: Monsters and Heroes!");
         try {
-            data = new DataLoader(Paths.get(".")).load();
+            // Opt-in compiled catalog, e.g. -Dmh.dataCatalog=game.catalog, rebuilt when the text files change.
+            String catalog = System.getProperty("mh.dataCatalog");
+            DataLoader loader = new DataLoader(Paths.get("."));
+            GameDataReloader.Source source = catalog != null && !catalog.isEmpty()
+                    ? () -> loader.loadCatalog(Paths.get(catalog))
+                    : loader::load;
+            // Opt-in live reload (-Dmh.hotReload=true): edited data files apply from the next encounter or market visit.
+            if (Boolean.getBoolean("mh.hotReload")) {
+                reloader = new GameDataReloader(Paths.get("."), source);
+                reloader.start();
+                data = reloader.current();
+            } else {
+                data = source.load();
+            }
         } catch (IOException e) {
-            System.out.println("Failed to load game data: " + e.getMessage());
+            out.println("Failed to load game data: " + e.getMessage());
             stopGame();
             return;
         }
@@ -63,16 +115,16 @@ public class GameEngine extends RPGGame {
 
     @Override
     protected void runTurn() {
-        System.out.println(worldMap.display());
-        System.out.println("Commands: W/A/S/D to move, M to enter market, I to view party, P for inventory, Q to quit");
-        String input = scanner.nextLine().trim().toUpperCase();
+        out.println(worldMap.display());
+        out.println("Commands: W/A/S/D to move, M to enter market, I to view party, P for inventory, Q to quit");
+        String input = readLine().trim().toUpperCase();
         switch (input) {
             case "W":
             case "A":
             case "S":
             case "D":
                 if (!worldMap.move(input.charAt(0))) {
-                    System.out.println("Cannot move there.");
+                    out.println("Cannot move there.");
                 } else {
                     handleTile();
                 }
@@ -81,7 +133,7 @@ public class GameEngine extends RPGGame {
                 if (onMarketTile()) {
                     enterMarket();
                 } else {
-                    System.out.println("You need to be on a market tile.");
+                    out.println("You need to be on a market tile.");
                 }
                 break;
             case "I":
@@ -94,10 +146,10 @@ public class GameEngine extends RPGGame {
                 stopGame();
                 break;
             default:
-                System.out.println("Unknown command");
+                out.println("Unknown command");
         }
         if (party != null && party.allFainted()) {
-            System.out.println("All heroes have fallen. Game over.");
+            out.println("All heroes have fallen. Game over.");
             stopGame();
         }
     }
@@ -109,19 +161,28 @@ public class GameEngine extends RPGGame {
 
     @Override
     protected void shutdown() {
-        System.out.println("Thanks for playing!");
+        if (reloader != null) {
+            try {
+                reloader.close();
+            } catch (IOException e) {
+                // nothing left to watch for
+            }
+        }
+        out.println("Thanks for playing!");
+        out.flush();
     }
 
     private void setupParty() {
         party = new Party();
         int count = promptInt("How many heroes will join your party? (1-3)", 1, 3);
         for (int i = 0; i < count; i++) {
-            System.out.printf("Select hero %d:%n", i + 1);
+            out.printf("Select hero %d:%n", i + 1);
             Hero hero = chooseHero();
+            hero.setEventListener(eventRenderer);
             party.addHero(hero);
         }
-        System.out.println("Your party:");
-        System.out.println(party.describe());
+        out.println("Your party:");
+        out.println(party.describe());
     }
 
     private Hero chooseHero() {
@@ -137,22 +198,22 @@ public class GameEngine extends RPGGame {
         }
     }
 
-    private Hero pickFromList(List<Hero> heroes) {
+    private Hero pickFromList(List<HeroTemplate> heroes) {
         for (int i = 0; i < heroes.size(); i++) {
-            Hero hero = heroes.get(i);
-            System.out.printf("%d) %s - %s (Favored: %s)\n", i + 1, hero.getName(), hero.fullInfo(), hero.favoredStats());
+            HeroTemplate hero = heroes.get(i);
+            out.printf("%d) %s - %s (Favored: %s)\n", i + 1, hero.getName(), hero.fullInfo(), hero.favoredStats());
         }
         int idx = promptInt("Pick hero", 1, heroes.size()) - 1;
-        return heroes.get(idx);
+        return heroes.get(idx).newHero();
     }
 
     private void handleTile() {
         Space tile = worldMap.getCurrentTile();
-        System.out.printf("You stepped onto a %s tile.%n", tile.describe());
+        out.printf("You stepped onto a %s tile.%n", tile.describe());
         if (tile instanceof CommonSpace) {
             if (safeStepsRemaining > 0) {
                 safeStepsRemaining--;
-                System.out.println("The area seems calm. Use this time to prepare.");
+                out.println("The area seems calm. Use this time to prepare.");
                 return;
             }
             CommonSpace commonTile = (CommonSpace) tile;
@@ -160,24 +221,38 @@ public class GameEngine extends RPGGame {
             if (commonTile.shouldTriggerBattle(random)) {
                 List<Monster> monsters = generateMonsters();
                 boolean victory = battleStrategy.executeBattle(party.getHeroes(), monsters);
+                monsterPool.releaseAll(monsters);
                 if (!victory) {
-                    System.out.println("All heroes need rest after the defeat.");
+                    out.println("All heroes need rest after the defeat.");
                 }
             } else {
-                System.out.println("No monsters nearby... for now.");
+                out.println("No monsters nearby... for now.");
             }
         } else if (tile instanceof MarketSpace) {
-            System.out.println("You hear nearby market chatter.");
+            out.println("You hear nearby market chatter.");
+        }
+    }
+
+    // Sessions switch to a reloaded snapshot only here, before an encounter or a market visit.
+    private void refreshData() {
+        GameData latest = reloader != null ? reloader.current() : data;
+        if (latest != data) {
+            data = latest;
+            // Stock and idle monsters were built from the old snapshot.
+            marketCache.clear();
+            monsterPool.clear();
+            encounters = null;
         }
     }
 
     private Market getOrCreateMarket() {
+        refreshData();
         Position pos = worldMap.getPartyPosition();
         String key = pos.getRow() + ":" + pos.getCol();
         Market market = marketCache.get(key);
         if (market == null) {
             // Reuse the same stock for this tile so it stays consistent across visits
-            market = new Market(data.getWeapons(), data.getArmors(), data.getPotions(), data.getSpells());
+            market = new Market(data.getItemCatalog(), data.getIndex(), party.highestLevel(), out);
             marketCache.put(key, market);
         }
         return market;
@@ -186,15 +261,14 @@ public class GameEngine extends RPGGame {
     private List<Monster> generateMonsters() {
         int count = party.getHeroes().size();
         int heroLevel = party.highestLevel();
-        List<Monster> pool = new ArrayList<>();
-        pool.addAll(data.getDragons());
-        pool.addAll(data.getExoskeletons());
-        pool.addAll(data.getSpirits());
-        List<Monster> monsters = new ArrayList<>();
+        refreshData();
+        if (encounters == null) {
+            encounters = data.getEncounterTable(encounterWeights);
+        }
+        List<Monster> monsters = new ArrayList<>(count);
         for (int i = 0; i < count; i++) {
-            Monster template = pool.get(random.nextInt(pool.size()));
             // FEATURE FROM PRIYANSHU: Monsters scale to match the strongest hero.
-            monsters.add(template.scaledCopyForLevel(heroLevel));
+            monsters.add(monsterPool.spawn(encounters.draw(heroLevel, random), heroLevel));
         }
         return monsters;
     }
@@ -203,19 +277,19 @@ public class GameEngine extends RPGGame {
         Market market = getOrCreateMarket();
         boolean shopping = true;
         while (shopping) {
-            System.out.println("Select hero for market actions:");
+            out.println("Select hero for market actions:");
             for (int i = 0; i < party.getHeroes().size(); i++) {
-                System.out.printf("%d) %s%n", i + 1, party.getHeroes().get(i).fullInfo());
+                out.printf("%d) %s%n", i + 1, party.getHeroes().get(i).fullInfo());
             }
-            System.out.println("0) Leave market");
+            out.println("0) Leave market");
             int selection = promptInt("Choice", 0, party.getHeroes().size());
             if (selection == 0) {
                 shopping = false;
                 break;
             }
             Hero hero = party.getHeroes().get(selection - 1);
-            System.out.println("Market options: [B]uy [S]ell [Q]uit");
-            String action = scanner.nextLine().trim().toUpperCase();
+            out.println("Market options: [B]uy [S]ell [Q]uit");
+            String action = readLine().trim().toUpperCase();
             switch (action) {
                 case "B":
                     buyFlow(market, hero);
@@ -231,52 +305,53 @@ public class GameEngine extends RPGGame {
     }
 
     private void buyFlow(Market market, Hero hero) {
-        System.out.println("Items for sale:");
-        System.out.print(market.listStock());
-        int choice = promptInt("Select item (0 to cancel)", 0, market.getStock().size());
+        out.println("Items for sale:");
+        out.print(market.listStock());
+        int choice = promptInt("Select item (0 to cancel)", 0, market.getStockSize());
         if (choice == 0) return;
         boolean success = market.buy(hero, choice - 1);
         if (success) {
-            System.out.println("Purchase successful!");
+            out.println("Purchase successful!");
         } else {
-            System.out.println("Cannot buy item (insufficient gold or level).");
+            out.println("Cannot buy item (insufficient gold or level).");
         }
     }
 
     private void sellFlow(Market market, Hero hero) {
-        List<Item> sellable = market.sellable(hero);
+        List<ItemStack<? extends Item>> sellable = market.sellable(hero);
         if (sellable.isEmpty()) {
-            System.out.println("No items to sell.");
+            out.println("No items to sell.");
             return;
         }
         for (int i = 0; i < sellable.size(); i++) {
-            System.out.printf("%d) %s (Sell price: %d)\n", i + 1, sellable.get(i).getDescription(), sellable.get(i).getPrice() / 2);
+            ItemStack<? extends Item> stack = sellable.get(i);
+            out.printf("%d) %s (Sell price: %d)\n", i + 1, stack.getDescription(), stack.getItem().getPrice() / 2);
         }
         int choice = promptInt("Select item to sell (0 to cancel)", 0, sellable.size());
         if (choice == 0) return;
-        Item item = sellable.get(choice - 1);
+        Item item = sellable.get(choice - 1).getItem();
         market.sell(hero, item);
-        System.out.println("Item sold.");
+        out.println("Item sold.");
     }
 
     private void manageInventory() {
-        System.out.println("Which hero?");
+        out.println("Which hero?");
         for (int i = 0; i < party.getHeroes().size(); i++) {
-            System.out.printf("%d) %s%n", i + 1, party.getHeroes().get(i).fullInfo());
+            out.printf("%d) %s%n", i + 1, party.getHeroes().get(i).fullInfo());
         }
         int idx = promptInt("Choice", 1, party.getHeroes().size()) - 1;
         Hero hero = party.getHeroes().get(idx);
-        System.out.println("Inventory options: [E]quip, [P]otion info, [S]pells");
-        String action = scanner.nextLine().trim().toUpperCase();
+        out.println("Inventory options: [E]quip, [P]otion info, [S]pells");
+        String action = readLine().trim().toUpperCase();
         switch (action) {
             case "E":
                 equip(hero);
                 break;
             case "P":
-                hero.getInventory().getPotions().forEach(p -> System.out.println(p.getDescription()));
+                hero.getInventory().getPotionStacks().forEach(p -> out.println(p.getDescription()));
                 break;
             case "S":
-                hero.getInventory().getSpells().forEach(s -> System.out.println(s.getDescription()));
+                hero.getInventory().getSpellStacks().forEach(s -> out.println(s.getDescription()));
                 break;
             default:
                 break;
@@ -284,33 +359,35 @@ public class GameEngine extends RPGGame {
     }
 
     private void equip(Hero hero) {
-        System.out.println("Equip [W]eapon or [A]rmor?");
+        out.println("Equip [W]eapon or [A]rmor?");
         String input = readEquipChoice();
         if (input.equals("W")) {
             List<Weapon> weapons = hero.getInventory().getWeapons();
             if (weapons.isEmpty()) {
-                System.out.println("No weapons available.");
+                out.println("No weapons available.");
                 return;
             }
             for (int i = 0; i < weapons.size(); i++) {
-                System.out.printf("%d) %s%n", i + 1, weapons.get(i).getDescription());
+                out.printf("%d) %s%n", i + 1, weapons.get(i).getDescription());
             }
             int choice = promptInt("Select weapon", 1, weapons.size());
+            Weapon weapon = weapons.get(choice - 1);
             if (hero.equipWeapon(choice - 1)) {
-                System.out.printf("%s equipped %s.%n", hero.getName(), weapons.get(choice - 1).getName());
+                out.printf("%s equipped %s.%n", hero.getName(), weapon.getName());
             }
         } else {
             List<Armor> armors = hero.getInventory().getArmors();
             if (armors.isEmpty()) {
-                System.out.println("No armor available.");
+                out.println("No armor available.");
                 return;
             }
             for (int i = 0; i < armors.size(); i++) {
-                System.out.printf("%d) %s%n", i + 1, armors.get(i).getDescription());
+                out.printf("%d) %s%n", i + 1, armors.get(i).getDescription());
             }
             int choice = promptInt("Select armor", 1, armors.size());
+            Armor armor = armors.get(choice - 1);
             if (hero.equipArmor(choice - 1)) {
-                System.out.printf("%s equipped %s.%n", hero.getName(), armors.get(choice - 1).getName());
+                out.printf("%s equipped %s.%n", hero.getName(), armor.getName());
             }
         }
     }
@@ -318,28 +395,34 @@ public class GameEngine extends RPGGame {
     private String readEquipChoice() {
         // Prevent equipping flow from taking unexpected keys
         while (true) {
-            String raw = scanner.nextLine().trim().toUpperCase();
+            String raw = readLine().trim().toUpperCase();
             if (raw.startsWith("W")) {
                 return "W";
             }
             if (raw.startsWith("A")) {
                 return "A";
             }
-            System.out.println("Invalid choice, please try again.");
+            out.println("Invalid choice, please try again.");
         }
     }
 
+    private String readLine() {
+        // Flush once per prompt: everything queued this turn reaches the console in one write.
+        out.flush();
+        return scanner.nextLine();
+    }
+
     private int promptInt(String prompt, int min, int max) {
         int value = min - 1;
         while (value < min || value > max) {
             try {
-                System.out.printf("%s: ", prompt);
-                value = Integer.parseInt(scanner.nextLine().trim());
+                out.printf("%s: ", prompt);
+                value = Integer.parseInt(readLine().trim());
             } catch (NumberFormatException e) {
                 value = min - 1;
             }
             if (value < min || value > max) {
-                System.out.println("Invalid choice, please try again.");
+                out.println("Invalid choice, please try again.");
             }
         }
         return value;
@@ -354,26 +437,26 @@ public class GameEngine extends RPGGame {
         final int hpWidth = 32;
         final int mpWidth = 10;
 
-        System.out.println(ColorUtil.BOLD + ColorUtil.BRIGHT_WHITE + "--- Party Status ---" + ColorUtil.RESET);
+        out.println(ColorUtil.BOLD + ColorUtil.BRIGHT_WHITE + "--- Party Status ---" + ColorUtil.RESET);
         for (Hero hero : party.getHeroes()) {
             String name = ColorUtil.padRight(colorHeroName(hero), nameWidth);
-            System.out.printf("H: %s (Lvl %d)%n", name, hero.getLevel());
+            out.printf("H: %s (Lvl %d)%n", name, hero.getLevel());
 
             int currentHp = (int) Math.round(hero.getHp());
             int maxHp = (int) Math.round(hero.getMaxHp());
             String hpLine = ColorUtil.padRight("HP: " + ColorUtil.formatHP(currentHp, maxHp), hpWidth);
-            System.out.println("   " + hpLine);
+            out.println("   " + hpLine);
 
             String weapon = hero.getEquippedWeapon() != null ? hero.getEquippedWeapon().getName() : "None";
             String armor = hero.getEquippedArmor() != null ? hero.getEquippedArmor().getName() : "None";
             String mpLine = ColorUtil.padRight("MP: " + ColorUtil.formatMP((int) Math.round(hero.getMana())), mpWidth);
-            System.out.println("   " + mpLine + " Weapon: " + weapon + "   Armor: " + armor);
+            out.println("   " + mpLine + " Weapon: " + weapon + "   Armor: " + armor);
 
             String stats = String.format("   STR: %.0f  DEX: %.0f  AGI: %.0f",
                     hero.getStrength(), hero.getDexterity(), hero.getAgility());
-            System.out.println(stats + "\n");
+            out.println(stats + "\n");
         }
-        System.out.println(ColorUtil.BOLD + ColorUtil.BRIGHT_WHITE + "--------------------" + ColorUtil.RESET);
+        out.println(ColorUtil.BOLD + ColorUtil.BRIGHT_WHITE + "--------------------" + ColorUtil.RESET);
     }
 
     private String colorHeroName(Hero hero) {
@@ -36,9 +36,12 @@ import final_project.shared.UI.ColorUtil;
 import final_project.shared.util.InputUtil;
 import final_project.world.Position;
 import final_project.world.ValorWorld;
+import mh.util.BufferedConsoleOutput;
+import mh.util.GameOutput;
 public class LegendsOfValorGame extends RPGGame {
     private static final int LANE_COUNT = 3;
     private final Random random;
+    private final GameOutput out;
 
     private ValorWorld world;
     private ValorBoard board;
@@ -68,8 +71,13 @@ public class LegendsOfValorGame extends RPGGame {
     }
 
     public LegendsOfValorGame(Scanner scanner, Random random) {
+        this(scanner, random, new BufferedConsoleOutput());
+    }
+
+    public LegendsOfValorGame(Scanner scanner, Random random, GameOutput out) {
         super(scanner);
         this.random = random;
+        this.out = out;
     }
 
     public void start() {
@@ -83,11 +91,11 @@ public class LegendsOfValorGame extends RPGGame {
         needsRender = true;
         roundHeaderPending = true;
         currentHeroIndex = 0;
-        System.out.println("=== Legends of Valor ===");
+        out.println("=== Legends of Valor ===");
         try {
             gameData = new DataLoader(Paths.get(".")).load();
         } catch (IOException e) {
-            System.out.println("Failed to load data: " + e.getMessage());
+            out.println("Failed to load data: " + e.getMessage());
             gameOver = true;
             return;
         }
@@ -110,7 +118,7 @@ public class LegendsOfValorGame extends RPGGame {
         monsters.addAll(spawnManager.spawnWave(heroes));
         startNewRound();
 
-        System.out.println("Reach the monster Nexus (top row) to win. Defend your Nexus (bottom row) to survive.");
+        out.println("Reach the monster Nexus (top row) to win. Defend your Nexus (bottom row) to survive.");
     }
 
     private void startNewRound() {
@@ -136,6 +144,8 @@ public class LegendsOfValorGame extends RPGGame {
     @Override
     protected String prompt() {
         Hero current = currentHero();
+        // The frame rendered this turn goes out in one write just before the prompt.
+        out.flush();
         if (current == null) {
             return "";
         }
@@ -198,6 +208,7 @@ public class LegendsOfValorGame extends RPGGame {
     @Override
     protected void renderGameOverSummary() {
         printGameOverSummary();
+        out.flush();
     }
 
     private void advanceAfterHeroTurn() {
@@ -261,6 +272,7 @@ public class LegendsOfValorGame extends RPGGame {
         });
         heroCommands.register("K", "Equip", this::handleEquipCommand);
         heroCommands.register("M", "Market", hero -> {
+            out.flush();
             marketMenu.open(hero);
             needsRender = true;
             return false;
@@ -272,6 +284,7 @@ public class LegendsOfValorGame extends RPGGame {
         heroCommands.register("R", "Recall", hero -> executeHeroAction(hero, ValorAction.recall()));
         heroCommands.register("O", "Remove Obstacle", this::handleRemoveObstacle);
         heroCommands.register("I", "Info", hero -> {
+            out.flush();
             infoMenu.open(hero);
             return false;
         });
@@ -292,13 +305,13 @@ public class LegendsOfValorGame extends RPGGame {
                 Position current = board.getPosition(hero);
                 Position moveTo = targetFromDirection(current, wasd);
                 if (moveTo == null) {
-                    System.out.println("Cannot move out of bounds.");
+                    out.println("Cannot move out of bounds.");
                     return false;
                 }
                 lastDestination = moveTo;
                 boolean moved = board.moveHero(hero, moveTo);
                 if (!moved) {
-                    System.out.println("Move not allowed.");
+                    out.println("Move not allowed.");
                     return false;
                 }
                 needsRender = true;
@@ -345,13 +358,13 @@ public class LegendsOfValorGame extends RPGGame {
             needsRender = true;
             return true;
         }
-        System.out.println("Move not allowed.");
+        out.println("Move not allowed.");
         return false;
     }
 
     private boolean handleTeleport(Hero hero, Hero targetHero, Position destination) {
         if (targetHero == null || destination == null) {
-            System.out.println("Invalid teleport target.");
+            out.println("Invalid teleport target.");
             return false;
         }
         if (board.teleport(hero, targetHero, destination)) {
@@ -359,7 +372,7 @@ public class LegendsOfValorGame extends RPGGame {
             needsRender = true;
             return true;
         }
-        System.out.println("Teleport failed.");
+        out.println("Teleport failed.");
         return false;
     }
 
@@ -368,16 +381,17 @@ public class LegendsOfValorGame extends RPGGame {
             needsRender = true;
             return true;
         }
-        System.out.println("Recall failed.");
+        out.println("Recall failed.");
         return false;
     }
 
     private ValorAction chooseAttackAction(Hero hero) {
         List<Monster> inRange = combatResolver.attackableMonsters(hero, monsters);
         if (inRange.isEmpty()) {
-            System.out.println("No monsters in range to attack.");
+            out.println("No monsters in range to attack.");
             return null;
         }
+        out.flush();
         battleUI.printTargetsWithHp(inRange, board);
         int choice = promptInt("Attack target: ", 1, inRange.size());
         return ValorAction.attack(inRange.get(choice - 1));
@@ -386,20 +400,21 @@ public class LegendsOfValorGame extends RPGGame {
     private ValorAction chooseSpellAction(Hero hero) {
         List<Spell> spells = new ArrayList<>(hero.getSpells());
         if (spells.isEmpty()) {
-            System.out.println("No spells available.");
+            out.println("No spells available.");
             return null;
         }
         for (int i = 0; i < spells.size(); i++) {
             Spell sp = spells.get(i);
-            System.out.printf("%d) %s DMG %.0f Mana %.0f%n", i + 1, sp.getName(), sp.getBaseDamage(), sp.getManaCost());
+            out.printf("%d) %s DMG %.0f Mana %.0f%n", i + 1, sp.getName(), sp.getBaseDamage(), sp.getManaCost());
         }
         int spellChoice = promptInt("Cast which spell: ", 1, spells.size());
         Spell spell = spells.get(spellChoice - 1);
         List<Monster> targets = combatResolver.attackableMonsters(hero, monsters);
         if (targets.isEmpty()) {
-            System.out.println("No monsters in range to target.");
+            out.println("No monsters in range to target.");
             return null;
         }
+        out.flush();
         battleUI.printTargetsWithHp(targets, board);
         int targetChoice = promptInt("Target: ", 1, targets.size());
         return ValorAction.castSpell(spell, targets.get(targetChoice - 1));
@@ -408,11 +423,11 @@ public class LegendsOfValorGame extends RPGGame {
     private ValorAction choosePotionAction(Hero hero) {
         List<Potion> potions = hero.getInventory().getPotions();
         if (potions.isEmpty()) {
-            System.out.println("No potions in inventory.");
+            out.println("No potions in inventory.");
             return null;
         }
         for (int i = 0; i < potions.size(); i++) {
-            System.out.printf("%d) %s%n", i + 1, potions.get(i).getDescription());
+            out.printf("%d) %s%n", i + 1, potions.get(i).getDescription());
         }
         int choice = promptInt("Use which potion: ", 1, potions.size());
         return ValorAction.usePotion(choice - 1);
@@ -422,22 +437,22 @@ public class LegendsOfValorGame extends RPGGame {
     private ValorAction chooseTeleportAction(Hero hero) {
         List<Hero> candidates = heroesInOtherLanes(hero);
         if (candidates.isEmpty()) {
-            System.out.println("No heroes in other lanes to teleport near.");
+            out.println("No heroes in other lanes to teleport near.");
             return null;
         }
         for (int i = 0; i < candidates.size(); i++) {
             Position pos = board.getPosition(candidates.get(i));
-            System.out.printf("%d) %s at (%d,%d)%n", i + 1, candidates.get(i).getName(), pos.getRow(), pos.getCol());
+            out.printf("%d) %s at (%d,%d)%n", i + 1, candidates.get(i).getName(), pos.getRow(), pos.getCol());
         }
         int choice = promptInt("Teleport near which hero: ", 1, candidates.size());
         Hero target = candidates.get(choice - 1);
         Position targetPos = board.getPosition(target);
         List<Position> validDestinations = board.validTeleportDestinations(hero, target);
         if (validDestinations.isEmpty()) {
-            System.out.println("No valid teleport cells near that hero.");
+            out.println("No valid teleport cells near that hero.");
             return null;
         }
-        System.out.println("Choose direction:");
+        out.println("Choose direction:");
         List<Direction> options = new ArrayList<>();
         for (Direction dir : Direction.values()) {
             Position dest = dir.apply(targetPos);
@@ -446,16 +461,16 @@ public class LegendsOfValorGame extends RPGGame {
             }
         }
         for (int i = 0; i < options.size(); i++) {
-            System.out.printf("%d) %s%n", i + 1, options.get(i).getLabel());
+            out.printf("%d) %s%n", i + 1, options.get(i).getLabel());
         }
         int destChoice = promptInt("Destination: ", 1, options.size());
         Direction chosen = options.get(destChoice - 1);
         Position destination = chosen.apply(targetPos);
         if (destination == null) {
-            System.out.println("Teleport failed.");
+            out.println("Teleport failed.");
             return null;
         }
-        System.out.printf("Teleported to the %s of %s at (%d,%d).%n",
+        out.printf("Teleported to the %s of %s at (%d,%d).%n",
                 chosen.getLabel(), target.getName(), destination.getRow(), destination.getCol());
         return ValorAction.teleport(target, destination);
     }
@@ -470,12 +485,12 @@ public class LegendsOfValorGame extends RPGGame {
             }
         }
         if (obstacles.isEmpty()) {
-            System.out.println("No adjacent obstacles to remove.");
+            out.println("No adjacent obstacles to remove.");
             return false;
         }
         for (int i = 0; i < obstacles.size(); i++) {
             Position pos = obstacles.get(i);
-            System.out.printf("%d) Obstacle at (%d,%d)%n", i + 1, pos.getRow(), pos.getCol());
+            out.printf("%d) Obstacle at (%d,%d)%n", i + 1, pos.getRow(), pos.getCol());
         }
         int choice = promptInt("Remove which obstacle (0 to cancel): ", 0, obstacles.size());
         if (choice == 0) {
@@ -488,27 +503,28 @@ public class LegendsOfValorGame extends RPGGame {
 
     private boolean handleRemoveObstacle(Hero hero, Position target) {
         if (target == null) {
-            System.out.println("Invalid target.");
+            out.println("Invalid target.");
             return false;
         }
         boolean removed = board.removeObstacle(hero, target);
         if (removed) {
-            System.out.printf("Removed obstacle at (%d,%d).%n", target.getRow(), target.getCol());
+            out.printf("Removed obstacle at (%d,%d).%n", target.getRow(), target.getCol());
             needsRender = true;
             return true;
         }
-        System.out.println("Cannot remove obstacle there (must be adjacent obstacle).");
+        out.println("Cannot remove obstacle there (must be adjacent obstacle).");
         return false;
     }
 
     private boolean handleEquipCommand(Hero hero) {
+        out.flush();
         Item item = equipMenu.chooseItemToEquip(hero);
         if (item == null) {
             return false;
         }
         ActionResult result = combatResolver.equip(hero, item);
         if (result != null && result.getMessage() != null) {
-            System.out.println(result.getMessage());
+            out.println(result.getMessage());
         }
         needsRender = true;
         return result != null && result.isSuccess();
@@ -536,6 +552,7 @@ public class LegendsOfValorGame extends RPGGame {
             }
             ActionResult result = monsterController.takeTurn(monster, heroes);
             if (result != null) {
+                out.flush();
                 battleUI.printMonsterTurnStatus(monster, heroes, board, result.getMessage());
             }
             Position pos = board.getPosition(monster);
@@ -577,13 +594,13 @@ public class LegendsOfValorGame extends RPGGame {
         List<Monster> spawned = spawnManager.spawnWave(heroes);
         monsters.addAll(spawned);
         if (!spawned.isEmpty()) {
-            System.out.println("New monsters have spawned.");
+            out.println("New monsters have spawned.");
             needsRender = true;
         }
     }
 
     private void selectHeroes() {
-        System.out.println("Select " + LANE_COUNT + " heroes (one per lane).");
+        out.println("Select " + LANE_COUNT + " heroes (one per lane).");
         List<Hero> available = new ArrayList<>();
         available.addAll(gameData.getWarriors());
         available.addAll(gameData.getSorcerers());
@@ -591,7 +608,7 @@ public class LegendsOfValorGame extends RPGGame {
         for (int i = 0; i < LANE_COUNT; i++) {
             for (int j = 0; j < available.size(); j++) {
                 Hero h = available.get(j);
-                System.out.printf("%d) %s Level %d HP %.0f MP %.0f%n", j + 1, h.getName(), h.getLevel(), h.getMaxHp(), h.getMaxMana());
+                out.printf("%d) %s Level %d HP %.0f MP %.0f%n", j + 1, h.getName(), h.getLevel(), h.getMaxHp(), h.getMaxMana());
             }
             int choice = promptInt("Hero for lane " + (i + 1) + ": ", 1, available.size());
             heroes.add(available.remove(choice - 1));
@@ -608,9 +625,9 @@ public class LegendsOfValorGame extends RPGGame {
     }
 
     private int selectDifficulty() {
-        System.out.println("1) Easy (spawn every 8 rounds)");
-        System.out.println("2) Medium (spawn every 6 rounds)");
-        System.out.println("3) Hard (spawn every 4 rounds)");
+        out.println("1) Easy (spawn every 8 rounds)");
+        out.println("2) Medium (spawn every 6 rounds)");
+        out.println("3) Hard (spawn every 4 rounds)");
         int choice = promptInt("Choice: ", 1, 3);
         switch (choice) {
             case 1: return 8;
@@ -638,8 +655,9 @@ public class LegendsOfValorGame extends RPGGame {
     }
 
     private int promptInt(String prompt, int min, int max) {
+        out.flush();
         return InputUtil.promptInt(in, prompt, min, max, () -> {
-            System.out.println("Input closed. Exiting game.");
+            out.println("Input closed. Exiting game.");
             quitGame();
         });
     }
@@ -653,7 +671,7 @@ public class LegendsOfValorGame extends RPGGame {
         if (result == null) {
             return false;
         }
-        System.out.println(result.getMessage());
+        out.println(result.getMessage());
         needsRender = true;
         return result.isSuccess();
     }
@@ -671,9 +689,11 @@ public class LegendsOfValorGame extends RPGGame {
 
     private void renderGameView(boolean includeRoundHeader, Hero currentHero) {
         if (includeRoundHeader) {
-            System.out.println("===== ROUND " + roundNumber + " =====");
+            out.println("===== ROUND " + roundNumber + " =====");
         }
-        world.printMap();
+        world.printMap(out);
+        // BattleUI still writes to the console directly; keep the frame in order.
+        out.flush();
         battleUI.printMonsterSummary(monsters, board);
         battleUI.printHeroesOnBoard(heroes, currentHero, board);
     }
@@ -692,8 +712,8 @@ public class LegendsOfValorGame extends RPGGame {
         if (endReason == null) {
             return;
         }
-        System.out.println(ColorUtil.BOLD + ColorUtil.BRIGHT_WHITE + "======================" + ColorUtil.RESET);
-        System.out.println(ColorUtil.BOLD + ColorUtil.BRIGHT_WHITE + "GAME OVER" + ColorUtil.RESET);
+        out.println(ColorUtil.BOLD + ColorUtil.BRIGHT_WHITE + "======================" + ColorUtil.RESET);
+        out.println(ColorUtil.BOLD + ColorUtil.BRIGHT_WHITE + "GAME OVER" + ColorUtil.RESET);
         String resultLine;
         switch (endReason) {
             case HERO_WIN_NEXUS:
@@ -707,24 +727,24 @@ public class LegendsOfValorGame extends RPGGame {
                 resultLine = "Result: QUIT (Player chose to quit)";
                 break;
         }
-        System.out.println(resultLine);
-        System.out.println("Rounds played: " + roundNumber);
-        System.out.println("Final Heroes:");
+        out.println(resultLine);
+        out.println("Rounds played: " + roundNumber);
+        out.println("Final Heroes:");
         for (Hero hero : heroes) {
             Position pos = board.getPosition(hero);
             int lane = pos != null ? board.laneId(pos) + 1 : -1;
-            System.out.printf("  H: %s Lane %d at (%d,%d)%n", hero.shortStatus(), lane,
+            out.printf("  H: %s Lane %d at (%d,%d)%n", hero.shortStatus(), lane,
                     pos != null ? pos.getRow() : -1, pos != null ? pos.getCol() : -1);
         }
-        System.out.println("Final Monsters on board:");
+        out.println("Final Monsters on board:");
         for (Monster monster : monsters) {
             if (monster.isFainted()) continue;
             Position pos = board.getPosition(monster);
             int lane = pos != null ? board.laneId(pos) + 1 : -1;
-            System.out.printf("  M: %s Lane %d at (%d,%d)%n", monster.shortStatus(), lane,
+            out.printf("  M: %s Lane %d at (%d,%d)%n", monster.shortStatus(), lane,
                     pos != null ? pos.getRow() : -1, pos != null ? pos.getCol() : -1);
         }
-        System.out.println(ColorUtil.BOLD + ColorUtil.BRIGHT_WHITE + "======================" + ColorUtil.RESET);
+        out.println(ColorUtil.BOLD + ColorUtil.BRIGHT_WHITE + "======================" + ColorUtil.RESET);
     }
 
     private MarketAccessPolicy createValorMarketPolicy() {
@@ -750,7 +770,7 @@ public class LegendsOfValorGame extends RPGGame {
 
             @Override
             public void onInputClosed(Hero hero) {
-                System.out.println("Input closed. Exiting game.");
+                out.println("Input closed. Exiting game.");
                 quitGame();
             }
         };
@@ -775,11 +795,11 @@ public class LegendsOfValorGame extends RPGGame {
 
             @Override
             public void printTeamSummary() {
-                System.out.println("--- Team Summary ---");
+                out.println("--- Team Summary ---");
                 for (Hero h : heroes) {
                     Position pos = board.getPosition(h);
                     int lane = pos != null ? board.laneId(pos) + 1 : -1;
-                    System.out.printf("H: %s Lane %d at (%d,%d) %s%n", h.shortStatus(), lane,
+                    out.printf("H: %s Lane %d at (%d,%d) %s%n", h.shortStatus(), lane,
                             pos != null ? pos.getRow() : -1, pos != null ? pos.getCol() : -1,
                             h.isFainted() ? "[Fainted]" : "");
                 }
@@ -787,7 +807,7 @@ public class LegendsOfValorGame extends RPGGame {
 
             @Override
             public void printMonstersSummary() {
-                System.out.println("--- Monsters Summary ---");
+                out.println("--- Monsters Summary ---");
                 boolean any = false;
                 for (Monster m : monsters) {
                     if (m.isFainted()) continue;
@@ -795,10 +815,10 @@ public class LegendsOfValorGame extends RPGGame {
                     if (pos == null) continue;
                     any = true;
                     int lane = board.laneId(pos) + 1;
-                    System.out.printf("M: %s Lane %d at (%d,%d)%n", m.shortStatus(), lane, pos.getRow(), pos.getCol());
+                    out.printf("M: %s Lane %d at (%d,%d)%n", m.shortStatus(), lane, pos.getRow(), pos.getCol());
                 }
                 if (!any) {
-                    System.out.println("No active monsters.");
+                    out.println("No active monsters.");
                 }
             }
         };
@@ -11,10 +11,20 @@ public class Armor extends Item {
         this.damageReduction = damageReduction;
     }
 
+    private Armor(Armor other) {
+        super(other);
+        this.damageReduction = other.damageReduction;
+    }
+
     public int getDamageReduction() {
         return damageReduction;
     }
 
+    @Override
+    public Armor copy() {
+        return new Armor(this);
+    }
+
     @Override
     public String getDescription() {
         return String.format("%s (Reduction: %d, Durability: %.0f%%, Level: %d, Price: %d)",
@@ -6,6 +6,9 @@ public abstract class Item {
     private final int levelRequirement;
     private final int maxDurability;
     private int usesRemaining;
+    // Catalog id shared by a template and every copy made from it; -1 for items built elsewhere.
+    private int templateId = -1;
+    private boolean template;
 
     // FEATURE FROM PRIYANSHU: Base durability tracking for every item.
     protected Item(String name, int price, int levelRequirement, int usesRemaining) {
@@ -16,6 +19,16 @@ public abstract class Item {
         this.maxDurability = usesRemaining == Integer.MAX_VALUE ? Integer.MAX_VALUE : usesRemaining;
     }
 
+    // Copies keep the source's wear so a cloned hero starts exactly where the original stands.
+    protected Item(Item other) {
+        this.name = other.name;
+        this.price = other.price;
+        this.levelRequirement = other.levelRequirement;
+        this.maxDurability = other.maxDurability;
+        this.usesRemaining = other.usesRemaining;
+        this.templateId = other.templateId;
+    }
+
     public String getName() {
         return name;
     }
@@ -36,6 +49,25 @@ public abstract class Item {
         return usesRemaining;
     }
 
+    /**
+     * Id of the {@link ItemCatalog} entry this item was made from, or -1 if it has none.
+     */
+    public int getTemplateId() {
+        return templateId;
+    }
+
+    /**
+     * Whether this is a catalog template, which is shared and never wears; copies are not templates.
+     */
+    public boolean isTemplate() {
+        return template;
+    }
+
+    void makeTemplate(int templateId) {
+        this.templateId = templateId;
+        this.template = true;
+    }
+
     public int getMaxDurability() {
         return maxDurability;
     }
@@ -51,6 +83,7 @@ public abstract class Item {
     }
 
     public void consumeUse() {
+        checkNotTemplate();
         if (usesRemaining == Integer.MAX_VALUE) {
             return;
         }
@@ -59,5 +92,42 @@ public abstract class Item {
         }
     }
 
+    /**
+     * Puts back wear recorded elsewhere, e.g. when a battle journal rebuilds a hero's gear.
+     */
+    public void restoreDurability(int usesRemaining) {
+        checkNotTemplate();
+        this.usesRemaining = usesRemaining;
+    }
+
+    private void checkNotTemplate() {
+        if (template) {
+            throw new IllegalStateException(name + " is a shared catalog template; wear a copy instead");
+        }
+    }
+
+    /**
+     * Whether {@code other} is interchangeable with this item, so a container may keep both as one
+     * {@link ItemStack}. Only consumables override this; anything with wear stays individual.
+     */
+    public boolean stacksWith(Item other) {
+        return false;
+    }
+
+    protected boolean sameBase(Item other) {
+        return other != null
+                && other.getClass() == getClass()
+                && other.name.equals(name)
+                && other.price == price
+                && other.levelRequirement == levelRequirement
+                && other.maxDurability == maxDurability
+                && other.usesRemaining == usesRemaining;
+    }
+
+    /**
+     * Independent copy with the same stats and remaining durability.
+     */
+    public abstract Item copy();
+
     public abstract String getDescription();
 }
@@ -0,0 +1,93 @@
+package mh.items;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * The immutable set of item templates a game is built from, numbered 0..size-1 (weapons first,
+ * then armor, potions and spells, each in load order).
+ *
+ * <p>Templates are shared by every market and session and refuse to wear out; anything a hero can
+ * own is a {@link #instantiate copy}. Code that only needs to remember which item something is, and
+ * how worn, can keep the integer id instead of an object, as {@link ItemStore} does.</p>
+ */
+public final class ItemCatalog {
+    private final Item[] templates;
+    private final List<Weapon> weapons;
+    private final List<Armor> armors;
+    private final List<Potion> potions;
+    private final List<Spell> spells;
+
+    private ItemCatalog(List<Weapon> weapons, List<Armor> armors, List<Potion> potions, List<Spell> spells) {
+        List<Item> all = new ArrayList<>(weapons.size() + armors.size() + potions.size() + spells.size());
+        this.weapons = register(weapons, all);
+        this.armors = register(armors, all);
+        this.potions = register(potions, all);
+        this.spells = register(spells, all);
+        this.templates = all.toArray(new Item[0]);
+    }
+
+    /**
+     * Builds a catalog from freshly loaded items. The given objects become the templates and must
+     * not be handed out or changed afterwards.
+     */
+    public static ItemCatalog of(List<Weapon> weapons, List<Armor> armors, List<Potion> potions, List<Spell> spells) {
+        return new ItemCatalog(weapons, armors, potions, spells);
+    }
+
+    private static <T extends Item> List<T> register(List<T> items, List<Item> all) {
+        List<T> registered = new ArrayList<>(items.size());
+        for (T item : items) {
+            if (item.isTemplate()) {
+                throw new IllegalArgumentException(item.getName() + " already belongs to a catalog");
+            }
+            item.makeTemplate(all.size());
+            all.add(item);
+            registered.add(item);
+        }
+        return Collections.unmodifiableList(registered);
+    }
+
+    public int size() {
+        return templates.length;
+    }
+
+    public Item template(int id) {
+        return templates[id];
+    }
+
+    /**
+     * A new item of kind {@code id} at full durability, owned by the caller.
+     */
+    public Item instantiate(int id) {
+        return templates[id].copy();
+    }
+
+    /**
+     * A new item of kind {@code id} with {@code usesRemaining} uses left.
+     */
+    public Item instantiate(int id, int usesRemaining) {
+        Item item = templates[id].copy();
+        if (item.getUsesRemaining() != usesRemaining) {
+            item.restoreDurability(usesRemaining);
+        }
+        return item;
+    }
+
+    public List<Weapon> getWeapons() {
+        return weapons;
+    }
+
+    public List<Armor> getArmors() {
+        return armors;
+    }
+
+    public List<Potion> getPotions() {
+        return potions;
+    }
+
+    public List<Spell> getSpells() {
+        return spells;
+    }
+}
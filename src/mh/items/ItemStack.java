@@ -0,0 +1,42 @@
+package mh.items;
+
+/**
+ * Interchangeable items held as one template object and a count (see {@link Item#stacksWith}).
+ * Items that wear out never merge, so each weapon or armor keeps its own durability in a stack of one.
+ * Containers own their stacks and adjust the count; everyone else should only read them.
+ */
+public final class ItemStack<T extends Item> {
+    private final T item;
+    private int count;
+
+    public ItemStack(T item, int count) {
+        if (count < 1) {
+            throw new IllegalArgumentException("A stack holds at least one item");
+        }
+        this.item = item;
+        this.count = count;
+    }
+
+    public T getItem() {
+        return item;
+    }
+
+    public int getCount() {
+        return count;
+    }
+
+    public void add(int amount) {
+        count += amount;
+    }
+
+    /**
+     * @return whether the stack is now empty
+     */
+    public boolean removeOne() {
+        return --count == 0;
+    }
+
+    public String getDescription() {
+        return count > 1 ? item.getDescription() + " x" + count : item.getDescription();
+    }
+}
@@ -0,0 +1,141 @@
+package mh.items;
+
+import java.util.Arrays;
+
+/**
+ * A compact collection of item instances belonging to one owner, such as a market's stock.
+ *
+ * <p>Each entry is a catalog id, a remaining-uses count and a quantity, held in parallel
+ * {@code int} arrays, so a store costs a few bytes per distinct kind and wear level instead of one
+ * object per item. Items that match on both id and wear share an entry. Objects are created only
+ * when an item leaves the store through {@link #take}. Entries keep their insertion order.</p>
+ */
+public final class ItemStore {
+    private final ItemCatalog catalog;
+    private int[] templateIds = new int[8];
+    private int[] usesRemaining = new int[8];
+    private int[] counts = new int[8];
+    private int size;
+
+    public ItemStore(ItemCatalog catalog) {
+        this.catalog = catalog;
+    }
+
+    /**
+     * Number of entries (not items).
+     */
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Adds one unworn item of catalog kind {@code templateId}.
+     */
+    public void add(int templateId) {
+        add(templateId, catalog.template(templateId).getUsesRemaining(), 1);
+    }
+
+    /**
+     * Takes in {@code item}, which must have come from this store's catalog. The object itself is
+     * not kept.
+     */
+    public void add(Item item) {
+        if (!accepts(item)) {
+            throw new IllegalArgumentException(item.getName() + " is not from this catalog");
+        }
+        add(item.getTemplateId(), item.getUsesRemaining(), 1);
+    }
+
+    public void add(int templateId, int uses, int count) {
+        if (count < 1) {
+            throw new IllegalArgumentException("count must be positive");
+        }
+        for (int i = 0; i < size; i++) {
+            if (templateIds[i] == templateId && usesRemaining[i] == uses) {
+                counts[i] += count;
+                return;
+            }
+        }
+        if (size == counts.length) {
+            int capacity = size * 2;
+            templateIds = Arrays.copyOf(templateIds, capacity);
+            usesRemaining = Arrays.copyOf(usesRemaining, capacity);
+            counts = Arrays.copyOf(counts, capacity);
+        }
+        templateIds[size] = templateId;
+        usesRemaining[size] = uses;
+        counts[size] = count;
+        size++;
+    }
+
+    /**
+     * Whether {@code item} is a copy of one of this store's catalog templates. Items from an older
+     * catalog (before a data reload) are accepted if the same id still names the same kind of item.
+     */
+    public boolean accepts(Item item) {
+        int id = item.getTemplateId();
+        if (id < 0 || id >= catalog.size()) {
+            return false;
+        }
+        Item template = catalog.template(id);
+        return template.getClass() == item.getClass() && template.getName().equals(item.getName());
+    }
+
+    public int templateId(int index) {
+        checkIndex(index);
+        return templateIds[index];
+    }
+
+    /**
+     * The catalog template of entry {@code index}; read-only, for prices and requirements.
+     */
+    public Item template(int index) {
+        return catalog.template(templateId(index));
+    }
+
+    public int usesRemaining(int index) {
+        checkIndex(index);
+        return usesRemaining[index];
+    }
+
+    public int count(int index) {
+        checkIndex(index);
+        return counts[index];
+    }
+
+    /**
+     * Removes one item of entry {@code index} and returns it as a new object; the entry disappears,
+     * shifting later ones down, once its count reaches zero.
+     */
+    public Item take(int index) {
+        checkIndex(index);
+        Item item = catalog.instantiate(templateIds[index], usesRemaining[index]);
+        if (--counts[index] == 0) {
+            int tail = size - index - 1;
+            System.arraycopy(templateIds, index + 1, templateIds, index, tail);
+            System.arraycopy(usesRemaining, index + 1, usesRemaining, index, tail);
+            System.arraycopy(counts, index + 1, counts, index, tail);
+            size--;
+        }
+        return item;
+    }
+
+    public String describe(int index) {
+        checkIndex(index);
+        Item template = catalog.template(templateIds[index]);
+        String description = usesRemaining[index] == template.getUsesRemaining()
+                ? template.getDescription()
+                : catalog.instantiate(templateIds[index], usesRemaining[index]).getDescription();
+        return counts[index] > 1 ? description + " x" + counts[index] : description;
+    }
+
+    private void checkIndex(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+        }
+    }
+}
@@ -16,6 +16,12 @@ public class Potion extends Item {
         this.effectAmount = effectAmount;
     }
 
+    private Potion(Potion other) {
+        super(other);
+        this.attribute = other.attribute;
+        this.effectAmount = other.effectAmount;
+    }
+
     public Attribute getAttribute() {
         return attribute;
     }
@@ -24,37 +30,48 @@ public class Potion extends Item {
         return effectAmount;
     }
 
-    public void apply(Hero hero) {
+    /**
+     * Applies this potion to the hero and returns the amount actually gained,
+     * so callers can publish it without the item doing any output itself.
+     */
+    public double apply(Hero hero) {
         switch (attribute) {
             case HP:
-                double healed = hero.applyHealthPotion(effectAmount);
-                System.out.printf("%s recovers %.0f HP (current: %.0f/%.0f)\n", hero.getName(), healed, hero.getHp(), hero.getMaxHp());
-                break;
+                return hero.applyHealthPotion(effectAmount);
             case MP:
                 double beforeMp = hero.getMana();
                 hero.restoreMana(effectAmount);
-                double restored = hero.getMana() - beforeMp;
-                System.out.printf("%s recovers %.0f MP (current: %.0f/%.0f)\n", hero.getName(), restored, hero.getMana(), hero.getMaxMana());
-                break;
+                return hero.getMana() - beforeMp;
             case STRENGTH:
                 hero.increaseStrength(effectAmount);
-                System.out.printf("%s gains %d Strength.\n", hero.getName(), effectAmount);
-                break;
+                return effectAmount;
             case DEXTERITY:
                 hero.increaseDexterity(effectAmount);
-                System.out.printf("%s gains %d Dexterity.\n", hero.getName(), effectAmount);
-                break;
+                return effectAmount;
             case AGILITY:
                 hero.increaseAgility(effectAmount);
-                System.out.printf("%s gains %d Agility.\n", hero.getName(), effectAmount);
-                break;
+                return effectAmount;
             default:
-                break;
+                return 0;
         }
     }
 
-    public void use(Hero hero) {
-        apply(hero);
+    @Override
+    public boolean stacksWith(Item other) {
+        if (!sameBase(other)) {
+            return false;
+        }
+        Potion potion = (Potion) other;
+        return potion.attribute == attribute && potion.effectAmount == effectAmount;
+    }
+
+    public double use(Hero hero) {
+        return apply(hero);
+    }
+
+    @Override
+    public Potion copy() {
+        return new Potion(this);
     }
 
     @Override
@@ -4,6 +4,7 @@ import mh.items.spell.SpellEffectStrategies;
 import mh.items.spell.SpellEffectStrategy;
 import mh.model.Hero;
 import mh.model.Monster;
+import mh.model.StatusEffects;
 
 public class Spell extends Item {
     public enum SpellType {
@@ -24,6 +25,14 @@ public class Spell extends Item {
         this.effectStrategy = SpellEffectStrategies.forType(spellType);
     }
 
+    private Spell(Spell other) {
+        super(other);
+        this.baseDamage = other.baseDamage;
+        this.manaCost = other.manaCost;
+        this.spellType = other.spellType;
+        this.effectStrategy = other.effectStrategy;
+    }
+
     public int getBaseDamage() {
         return baseDamage;
     }
@@ -36,8 +45,22 @@ public class Spell extends Item {
         return spellType;
     }
 
-    public void applyEffect(Hero caster, Monster target) {
-        effectStrategy.apply(caster, target);
+    public void applyEffect(Hero caster, Monster target, StatusEffects effects) {
+        effectStrategy.apply(caster, target, effects);
+    }
+
+    @Override
+    public boolean stacksWith(Item other) {
+        if (!sameBase(other)) {
+            return false;
+        }
+        Spell spell = (Spell) other;
+        return spell.baseDamage == baseDamage && spell.manaCost == manaCost && spell.spellType == spellType;
+    }
+
+    @Override
+    public Spell copy() {
+        return new Spell(this);
     }
 
     @Override
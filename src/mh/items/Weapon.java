@@ -14,6 +14,12 @@ public class Weapon extends Item {
         this.handsRequired = handsRequired;
     }
 
+    private Weapon(Weapon other) {
+        super(other);
+        this.damage = other.damage;
+        this.handsRequired = other.handsRequired;
+    }
+
     public int getDamage() {
         return damage;
     }
@@ -22,6 +28,11 @@ public class Weapon extends Item {
         return handsRequired;
     }
 
+    @Override
+    public Weapon copy() {
+        return new Weapon(this);
+    }
+
     @Override
     public String getDescription() {
         return String.format("%s (DMG: %d, Durability: %.0f%%, Hands: %d, Level: %d, Price: %d)",
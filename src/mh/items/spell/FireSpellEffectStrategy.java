@@ -2,13 +2,18 @@ package mh.items.spell;
 
 import mh.model.Hero;
 import mh.model.Monster;
+import mh.model.StatusEffect;
+import mh.model.StatusEffects;
 
 /**
  * // FEATURE FROM LEO: Fire spells burn away monster defenses.
  */
 public class FireSpellEffectStrategy implements SpellEffectStrategy {
+    // Burns stack up to three times, each lasting three rounds.
+    private static final StatusEffect BURN = StatusEffect.stacking("Burn", StatusEffect.Stat.DEFENSE, 0.1, 3, 3);
+
     @Override
-    public void apply(Hero caster, Monster target) {
-        target.reduceDefense(0.1);
+    public void apply(Hero caster, Monster target, StatusEffects effects) {
+        effects.apply(target, BURN);
     }
 }
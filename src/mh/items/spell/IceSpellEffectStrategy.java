@@ -2,13 +2,18 @@ package mh.items.spell;
 
 import mh.model.Hero;
 import mh.model.Monster;
+import mh.model.StatusEffect;
+import mh.model.StatusEffects;
 
 /**
  * // FEATURE FROM LEO: Ice spells reduce monster damage output.
  */
 public class IceSpellEffectStrategy implements SpellEffectStrategy {
+    // Chill lasts three rounds; recasting restarts it instead of deepening it.
+    private static final StatusEffect CHILL = StatusEffect.refreshing("Chill", StatusEffect.Stat.DAMAGE, 0.1, 3);
+
     @Override
-    public void apply(Hero caster, Monster target) {
-        target.reduceBaseDamage(0.1);
+    public void apply(Hero caster, Monster target, StatusEffects effects) {
+        effects.apply(target, CHILL);
     }
 }
@@ -2,13 +2,18 @@ package mh.items.spell;
 
 import mh.model.Hero;
 import mh.model.Monster;
+import mh.model.StatusEffect;
+import mh.model.StatusEffects;
 
 /**
  * // FEATURE FROM LEO: Lightning spells cripple monster dodge chance.
  */
 public class LightningSpellEffectStrategy implements SpellEffectStrategy {
+    // One shock at a time: a new cast only restarts its three rounds.
+    private static final StatusEffect SHOCK = StatusEffect.refreshing("Shock", StatusEffect.Stat.DODGE, 0.1, 3);
+
     @Override
-    public void apply(Hero caster, Monster target) {
-        target.reduceDodge(0.1);
+    public void apply(Hero caster, Monster target, StatusEffects effects) {
+        effects.apply(target, SHOCK);
     }
 }
@@ -20,6 +20,6 @@ public final class SpellEffectStrategies {
     private SpellEffectStrategies() {}
 
     public static SpellEffectStrategy forType(SpellType type) {
-        return REGISTRY.getOrDefault(type, (caster, target) -> {});
+        return REGISTRY.getOrDefault(type, (caster, target, effects) -> {});
     }
 }
@@ -2,10 +2,14 @@ package mh.items.spell;
 
 import mh.model.Hero;
 import mh.model.Monster;
+import mh.model.StatusEffects;
 
 /**
  * // FEATURE FROM LEONARDO: Strategy interface for elemental spell effects.
  */
 public interface SpellEffectStrategy {
-    void apply(Hero caster, Monster target);
+    /**
+     * @param effects the battle's effect tracker; timed debuffs must go through it so they expire
+     */
+    void apply(Hero caster, Monster target, StatusEffects effects);
 }
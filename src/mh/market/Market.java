@@ -5,76 +5,122 @@ import java.util.List;
 import java.util.Random;
 import java.util.stream.Collectors;
 
-import mh.items.Armor;
+import mh.data.GameIndex;
 import mh.items.Item;
-import mh.items.Potion;
-import mh.items.Spell;
-import mh.items.Weapon;
+import mh.items.ItemCatalog;
+import mh.items.ItemStack;
+import mh.items.ItemStore;
 import mh.model.Hero;
+import mh.util.GameOutput;
 
+/**
+ * A town shop. Stock lives in an {@link ItemStore} of catalog ids, so every sale hands the hero a
+ * new item of their own and shared catalog templates never leave the catalog. Items sold back keep
+ * their wear and join a matching entry.
+ */
 public class Market {
-    private final List<Item> stock = new ArrayList<>();
+    private static final int WEAPON_STOCK = 6;
+    private static final int ARMOR_STOCK = 4;
+    private static final int POTION_STOCK = 5;
+    private static final int SPELL_STOCK = 5;
+    // How far above the party's level stock may require.
+    private static final int LEVELS_AHEAD = 2;
+
+    private final ItemStore stock;
     private final Random random = new Random();
+    private final GameOutput out;
+
+    public Market(ItemCatalog catalog, GameOutput out) {
+        this.out = out;
+        this.stock = new ItemStore(catalog);
+        pickRandom(catalog.getWeapons(), WEAPON_STOCK);
+        pickRandom(catalog.getArmors(), ARMOR_STOCK);
+        pickRandom(catalog.getPotions(), POTION_STOCK);
+        pickRandom(catalog.getSpells(), SPELL_STOCK);
+    }
 
-    public Market(List<Weapon> weapons, List<Armor> armors, List<Potion> potions, List<Spell> spells) {
-        pickRandom(weapons, 6);
-        pickRandom(armors, 4);
-        pickRandom(potions, 5);
-        pickRandom(spells, 5);
+    /**
+     * A shop for a party whose strongest hero is at {@code partyLevel}. Each category is stocked
+     * from items needing at most {@value #LEVELS_AHEAD} levels more, raising that limit one level
+     * requirement at a time while too few qualify.
+     */
+    public Market(ItemCatalog catalog, GameIndex index, int partyLevel, GameOutput out) {
+        this.out = out;
+        this.stock = new ItemStore(catalog);
+        int maxLevel = partyLevel + LEVELS_AHEAD;
+        pickRandom(nearLevel(index.getWeapons(), maxLevel, WEAPON_STOCK), WEAPON_STOCK);
+        pickRandom(nearLevel(index.getArmors(), maxLevel, ARMOR_STOCK), ARMOR_STOCK);
+        pickRandom(nearLevel(index.getPotions(), maxLevel, POTION_STOCK), POTION_STOCK);
+        pickRandom(nearLevel(index.getSpells(), maxLevel, SPELL_STOCK), SPELL_STOCK);
+    }
+
+    private static <T extends Item> List<T> nearLevel(GameIndex.Shelf<T> shelf, int maxLevel, int amount) {
+        List<T> all = shelf.all();
+        List<T> near = shelf.withLevel(Integer.MIN_VALUE, maxLevel);
+        while (near.size() < amount && near.size() < all.size()) {
+            // all() is sorted by level, so the next item up sets the next limit.
+            near = shelf.withLevel(Integer.MIN_VALUE, all.get(near.size()).getLevelRequirement());
+        }
+        return near;
     }
 
     private void pickRandom(List<? extends Item> list, int amount) {
         List<? extends Item> copy = new ArrayList<>(list);
         for (int i = 0; i < amount && !copy.isEmpty(); i++) {
             int idx = random.nextInt(copy.size());
-            stock.add(copy.remove(idx));
+            stock.add(copy.remove(idx).getTemplateId());
         }
     }
 
-    public List<Item> getStock() {
-        return stock;
+    /**
+     * Number of entries in {@link #listStock()}.
+     */
+    public int getStockSize() {
+        return stock.size();
     }
 
     public String listStock() {
         StringBuilder sb = new StringBuilder();
         for (int i = 0; i < stock.size(); i++) {
-            sb.append(String.format("%d) %s\n", i + 1, stock.get(i).getDescription()));
+            sb.append(String.format("%d) %s\n", i + 1, stock.describe(i)));
         }
         return sb.toString();
     }
 
     public boolean buy(Hero hero, int index) {
         if (index < 0 || index >= stock.size()) return false;
-        Item item = stock.get(index);
+        Item item = stock.template(index);
         // FEATURE FROM PRIYANSHU: Market buy rules enforce hero level and affordability.
         if (!hero.meetsLevel(item)) {
-            System.out.println("Your level is too low to buy this item.");
+            out.println("Your level is too low to buy this item.");
             return false;
         }
         if (!hero.canAfford(item)) {
-            System.out.println("Not enough gold.");
+            out.println("Not enough gold.");
             return false;
         }
-        hero.purchase(item);
-        stock.remove(index);
+        hero.purchase(stock.take(index));
         return true;
     }
 
-    public List<Item> sellable(Hero hero) {
-        return hero.getInventory().getAllItems();
+    public List<ItemStack<? extends Item>> sellable(Hero hero) {
+        return hero.getInventory().getStacks();
     }
 
     public boolean sell(Hero hero, Item item) {
-        if (!sellable(hero).contains(item)) return false;
+        if (!hero.getInventory().contains(item)) return false;
         // FEATURE FROM PRIYANSHU: Selling returns the item to the market at half price.
         hero.sell(item);
-        stock.add(item);
+        // Items from outside the catalog (none in normal play) are bought but not restocked.
+        if (stock.accepts(item)) {
+            stock.add(item);
+        }
         return true;
     }
 
     public String describeSellable(Hero hero) {
         return sellable(hero).stream()
-                .map(Item::getDescription)
+                .map(ItemStack::getDescription)
                 .collect(Collectors.joining("\n"));
     }
 }
@@ -0,0 +1,38 @@
+package mh.model;
+
+/**
+ * Primitive encoding of an attack outcome in a single {@code double}, for hot loops that must not
+ * allocate an {@link AttackResult} per swing.
+ *
+ * <p>A dodge is {@code NaN}. A hit is the damage applied, which is never negative, with the sign
+ * bit set for a critical hit ({@code -0.0} is a critical hit that found its target already down).</p>
+ */
+public final class AttackOutcome {
+    public static final double DODGED = Double.NaN;
+
+    private AttackOutcome() {
+    }
+
+    public static double hit(double damageApplied, boolean critical) {
+        return critical ? -damageApplied : damageApplied;
+    }
+
+    public static boolean isDodged(double outcome) {
+        return outcome != outcome;
+    }
+
+    public static boolean isCritical(double outcome) {
+        return !isDodged(outcome) && Double.doubleToRawLongBits(outcome) < 0;
+    }
+
+    public static double damageApplied(double outcome) {
+        return isDodged(outcome) ? 0 : Math.abs(outcome);
+    }
+
+    public static AttackResult toResult(double outcome) {
+        if (isDodged(outcome)) {
+            return AttackResult.dodged();
+        }
+        return AttackResult.hit(Math.abs(outcome), isCritical(outcome));
+    }
+}
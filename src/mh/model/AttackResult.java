@@ -1,6 +1,9 @@
 package mh.model;
 
 public class AttackResult {
+    // Every dodge looks the same, so one shared instance serves them all.
+    private static final AttackResult DODGED = new AttackResult(0, false, true);
+
     private final double damageApplied;
     private final boolean critical;
     private final boolean dodged;
@@ -12,7 +15,7 @@ public class AttackResult {
     }
 
     public static AttackResult dodged() {
-        return new AttackResult(0, false, true);
+        return DODGED;
     }
 
     public static AttackResult hit(double damageApplied, boolean critical) {
@@ -0,0 +1,21 @@
+package mh.model;
+
+/**
+ * Strategy for the numeric formulas behind combat and monster scaling, so the same rules can run
+ * in floating point or in deterministic fixed point. See {@link CombatArithmetics}.
+ */
+public interface CombatArithmetic {
+    double heroAttackDamage(double strength, double weaponDamage);
+    double monsterAttackDamage(double baseDamage, int level);
+    double mitigate(double damage, double armor);
+    double spellDamage(int baseDamage, double dexterity);
+    /**
+     * Damage a spell deals to a target with {@code defense} before dodge is rolled.
+     */
+    double spellHit(double spellDamage, double defense);
+    double heroDodgeChance(double agility);
+    /**
+     * Monster stat multiplier for a level difference of {@code levelDelta}.
+     */
+    double levelScaling(int levelDelta);
+}
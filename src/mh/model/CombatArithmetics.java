@@ -0,0 +1,156 @@
+package mh.model;
+
+import mh.util.FixedPoint;
+
+/**
+ * Registry of combat arithmetic modes and the one currently in effect.
+ *
+ * <p>{@link #FLOATING} is the original double math. {@link #FIXED_POINT} evaluates the same formulas
+ * in {@link FixedPoint} and rounds every result to a multiple of 1/65536, with level scaling read
+ * from a precomputed power table instead of {@code Math.pow}; results are bit-identical on every
+ * platform, as lockstep play and cross-machine replay verification need. The mode is process-wide:
+ * start with {@code -Dmh.combatArithmetic=fixed}, or call {@link #setCurrent} before any battle.
+ * Battle journals record the mode, and a replay refuses to run under any other.</p>
+ */
+public final class CombatArithmetics {
+    public static final CombatArithmetic FLOATING = new FloatingArithmetic();
+    public static final CombatArithmetic FIXED_POINT = new FixedPointArithmetic();
+
+    private static volatile CombatArithmetic current =
+            "fixed".equalsIgnoreCase(System.getProperty("mh.combatArithmetic")) ? FIXED_POINT : FLOATING;
+
+    private CombatArithmetics() {}
+
+    public static CombatArithmetic current() {
+        return current;
+    }
+
+    public static void setCurrent(CombatArithmetic arithmetic) {
+        current = arithmetic;
+    }
+
+    private static final class FloatingArithmetic implements CombatArithmetic {
+        private static final int SCALING_RANGE = 100;
+        // Math.pow(1.05, delta) for delta in [-SCALING_RANGE, SCALING_RANGE], filled with the same call
+        // so table lookups return exactly what the direct computation did.
+        private static final double[] SCALING = new double[2 * SCALING_RANGE + 1];
+
+        static {
+            for (int delta = -SCALING_RANGE; delta <= SCALING_RANGE; delta++) {
+                SCALING[delta + SCALING_RANGE] = Math.pow(1.05, delta);
+            }
+        }
+
+        @Override
+        public double heroAttackDamage(double strength, double weaponDamage) {
+            // BALANCING FIX: blend strength/weapon so early heroes land 15-60 raw damage.
+            double rawDamage = (strength * 0.3) + (weaponDamage * 0.7);
+            return Math.max(5, rawDamage);
+        }
+
+        @Override
+        public double monsterAttackDamage(double baseDamage, int level) {
+            return baseDamage + (level * 5);
+        }
+
+        @Override
+        public double mitigate(double damage, double armor) {
+            if (damage <= 0) {
+                return 0;
+            }
+            if (armor < 0) {
+                armor = 0;
+            }
+            double reduction = 100.0 / (100.0 + armor);
+            return Math.max(1, damage * reduction);
+        }
+
+        @Override
+        public double spellDamage(int baseDamage, double dexterity) {
+            return baseDamage + (dexterity / 10000.0) * baseDamage;
+        }
+
+        @Override
+        public double spellHit(double spellDamage, double defense) {
+            double mitigationFactor = Math.max(0.1, 100.0 / (100.0 + defense));
+            return Math.max(1, spellDamage * mitigationFactor);
+        }
+
+        @Override
+        public double heroDodgeChance(double agility) {
+            // Keep dodge chance meaningful but below guaranteed avoidance
+            return Math.min(0.35, agility * 0.0005);
+        }
+
+        @Override
+        public double levelScaling(int levelDelta) {
+            if (levelDelta < -SCALING_RANGE || levelDelta > SCALING_RANGE) {
+                return Math.pow(1.05, levelDelta);
+            }
+            return SCALING[levelDelta + SCALING_RANGE];
+        }
+    }
+
+    private static final class FixedPointArithmetic implements CombatArithmetic {
+        private static final int SCALING_RANGE = 100;
+        // 1.05^delta for delta in [-SCALING_RANGE, SCALING_RANGE]
+        private static final long[] SCALING = FixedPoint.powerTable(21, 20, SCALING_RANGE);
+        private static final long STRENGTH_WEIGHT = FixedPoint.ratio(3, 10);
+        private static final long WEAPON_WEIGHT = FixedPoint.ratio(7, 10);
+        private static final long MIN_HERO_DAMAGE = FixedPoint.ofInt(5);
+        private static final long HUNDRED = FixedPoint.ofInt(100);
+        private static final long MIN_SPELL_FACTOR = FixedPoint.ratio(1, 10);
+        private static final long MAX_DODGE = FixedPoint.ratio(35, 100);
+
+        @Override
+        public double heroAttackDamage(double strength, double weaponDamage) {
+            long raw = FixedPoint.multiply(FixedPoint.of(strength), STRENGTH_WEIGHT)
+                    + FixedPoint.multiply(FixedPoint.of(weaponDamage), WEAPON_WEIGHT);
+            return FixedPoint.toDouble(Math.max(MIN_HERO_DAMAGE, raw));
+        }
+
+        @Override
+        public double monsterAttackDamage(double baseDamage, int level) {
+            return FixedPoint.toDouble(FixedPoint.of(baseDamage) + FixedPoint.ofInt(level * 5L));
+        }
+
+        @Override
+        public double mitigate(double damage, double armor) {
+            long fixedDamage = FixedPoint.of(damage);
+            if (fixedDamage <= 0) {
+                return 0;
+            }
+            long fixedArmor = Math.max(0, FixedPoint.of(armor));
+            // damage * 100 / (100 + armor) with a single rounding
+            long mitigated = FixedPoint.divide(fixedDamage * 100, HUNDRED + fixedArmor);
+            return FixedPoint.toDouble(Math.max(FixedPoint.ONE, mitigated));
+        }
+
+        @Override
+        public double spellDamage(int baseDamage, double dexterity) {
+            long bonus = FixedPoint.divide(FixedPoint.of(dexterity) * baseDamage, FixedPoint.ofInt(10000));
+            return FixedPoint.toDouble(FixedPoint.ofInt(baseDamage) + bonus);
+        }
+
+        @Override
+        public double spellHit(double spellDamage, double defense) {
+            long factor = Math.max(MIN_SPELL_FACTOR, FixedPoint.divide(HUNDRED, HUNDRED + FixedPoint.of(defense)));
+            long damage = FixedPoint.multiply(FixedPoint.of(spellDamage), factor);
+            return FixedPoint.toDouble(Math.max(FixedPoint.ONE, damage));
+        }
+
+        @Override
+        public double heroDodgeChance(double agility) {
+            long dodge = FixedPoint.divide(FixedPoint.of(agility), FixedPoint.ofInt(2000));
+            return FixedPoint.toDouble(Math.min(MAX_DODGE, dodge));
+        }
+
+        @Override
+        public double levelScaling(int levelDelta) {
+            if (levelDelta < -SCALING_RANGE || levelDelta > SCALING_RANGE) {
+                return FixedPoint.toDouble(FixedPoint.power(21, 20, levelDelta));
+            }
+            return FixedPoint.toDouble(SCALING[levelDelta + SCALING_RANGE]);
+        }
+    }
+}
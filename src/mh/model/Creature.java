@@ -107,18 +107,27 @@ public abstract class Creature implements Attacker {
     }
 
     protected double applyDamageReduction(double damage, double armor) {
-        if (damage <= 0) {
-            return 0;
-        }
-        if (armor < 0) {
-            armor = 0;
-        }
-        double reduction = 100.0 / (100.0 + armor);
-        return Math.max(1, damage * reduction);
+        return mitigate(damage, armor);
+    }
+
+    /**
+     * Armor mitigation used by every attack, in the current {@link CombatArithmetics} mode; exposed so
+     * analysis tools apply the exact same formula.
+     */
+    public static double mitigate(double damage, double armor) {
+        return CombatArithmetics.current().mitigate(damage, armor);
     }
 
     @Override
-    public abstract AttackResult attack(Creature target, Random random);
+    public AttackResult attack(Creature target, Random random) {
+        return AttackOutcome.toResult(strike(target, random));
+    }
+
+    /**
+     * Resolves an attack and returns the {@link AttackOutcome} encoding instead of an object,
+     * so simulation loops allocate nothing per swing.
+     */
+    public abstract double strike(Creature target, Random random);
 
     public abstract String shortStatus();
 }
@@ -0,0 +1,122 @@
+package mh.model;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Weighted random choice of encounter monsters using Walker's alias method.
+ *
+ * <p>For each party level seen, the first draw builds a table of one column per template (Vose's
+ * construction, O(n)); every later draw is one uniform column pick plus at most one biased coin, with
+ * no allocation. When all weights at a level are equal every column is whole and the coin is
+ * skipped, so a draw consumes exactly one {@code nextInt(size())} and returns the same template as
+ * indexing the monster list directly, keeping seeded games and replays unchanged.</p>
+ *
+ * <p>Tables belong to one catalog snapshot; obtain them from {@link mh.data.GameData#getEncounterTable}
+ * so a reload builds new ones. Safe to share between sessions.</p>
+ */
+public final class EncounterTable {
+    private final MonsterTemplate[] monsters;
+    private final EncounterWeights weights;
+    // Indexed by party level; grown copy-on-write so draws read without locking.
+    private volatile Alias[] byLevel = new Alias[0];
+
+    public EncounterTable(List<MonsterTemplate> monsters, EncounterWeights weights) {
+        this.monsters = monsters.toArray(new MonsterTemplate[0]);
+        this.weights = weights;
+    }
+
+    public int size() {
+        return monsters.length;
+    }
+
+    /**
+     * A template drawn by weight for a party whose strongest hero is at {@code partyLevel}.
+     *
+     * @throws IllegalStateException if no template has a positive weight at that level
+     */
+    public MonsterTemplate draw(int partyLevel, Random random) {
+        Alias[] tables = byLevel;
+        Alias alias = partyLevel >= 0 && partyLevel < tables.length ? tables[partyLevel] : null;
+        if (alias == null) {
+            alias = build(partyLevel);
+        }
+        int column = random.nextInt(monsters.length);
+        if (alias.probability[column] < 1.0 && random.nextDouble() >= alias.probability[column]) {
+            column = alias.alias[column];
+        }
+        return monsters[column];
+    }
+
+    private synchronized Alias build(int partyLevel) {
+        if (partyLevel < 0) {
+            throw new IllegalArgumentException("partyLevel must not be negative");
+        }
+        Alias[] tables = byLevel;
+        if (partyLevel < tables.length && tables[partyLevel] != null) {
+            return tables[partyLevel];
+        }
+        Alias alias = new Alias(monsters, weights, partyLevel);
+        tables = Arrays.copyOf(tables, Math.max(tables.length, partyLevel + 1));
+        tables[partyLevel] = alias;
+        byLevel = tables;
+        return alias;
+    }
+
+    private static final class Alias {
+        private final double[] probability;
+        private final int[] alias;
+
+        Alias(MonsterTemplate[] monsters, EncounterWeights weights, int partyLevel) {
+            int n = monsters.length;
+            double[] scaled = new double[n];
+            double total = 0;
+            for (int i = 0; i < n; i++) {
+                double weight = weights.weight(monsters[i], partyLevel);
+                if (!(weight >= 0) || Double.isInfinite(weight)) {
+                    throw new IllegalArgumentException("Bad encounter weight " + weight + " for " + monsters[i].getName());
+                }
+                scaled[i] = weight;
+                total += weight;
+            }
+            if (!(total > 0)) {
+                throw new IllegalStateException("No monster can be encountered at level " + partyLevel);
+            }
+            probability = new double[n];
+            alias = new int[n];
+            // Columns below and at-or-above the average weight; each small column is topped up from a large one.
+            int[] small = new int[n];
+            int[] large = new int[n];
+            int smallCount = 0;
+            int largeCount = 0;
+            for (int i = 0; i < n; i++) {
+                scaled[i] = scaled[i] * n / total;
+                if (scaled[i] < 1.0) {
+                    small[smallCount++] = i;
+                } else {
+                    large[largeCount++] = i;
+                }
+            }
+            while (smallCount > 0 && largeCount > 0) {
+                int less = small[--smallCount];
+                int more = large[--largeCount];
+                probability[less] = scaled[less];
+                alias[less] = more;
+                scaled[more] = (scaled[more] + scaled[less]) - 1.0;
+                if (scaled[more] < 1.0) {
+                    small[smallCount++] = more;
+                } else {
+                    large[largeCount++] = more;
+                }
+            }
+            // Whatever is left is whole up to rounding error.
+            while (largeCount > 0) {
+                probability[large[--largeCount]] = 1.0;
+            }
+            while (smallCount > 0) {
+                probability[small[--smallCount]] = 1.0;
+            }
+        }
+    }
+}
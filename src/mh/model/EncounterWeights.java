@@ -0,0 +1,43 @@
+package mh.model;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * Strategy for how often each monster template turns up in a random encounter.
+ *
+ * <p>Weights are relative and only compared within one party level. They must be computed from the
+ * arguments alone: an {@link EncounterTable} evaluates them once per template and party level and
+ * keeps the result until the catalog is reloaded.</p>
+ */
+public interface EncounterWeights {
+    /** Every template equally likely, as encounters have always been drawn. */
+    EncounterWeights UNIFORM = (monster, partyLevel) -> 1.0;
+
+    /**
+     * Relative chance of {@code monster} for a party whose strongest hero is at {@code partyLevel};
+     * zero keeps it out, and the value must be finite and not negative.
+     */
+    double weight(MonsterTemplate monster, int partyLevel);
+
+    /**
+     * Weights multiplied from the monster's type and its level band, where band {@code d} holds
+     * templates whose data-file level is {@code d} away from the party level and the last band also
+     * covers everything further away. Types missing from the map weigh 1; no bands weighs every level 1.
+     * For example {@code byTypeAndBand(map, 4, 2, 1, 0)} favours monsters near the party's level and
+     * never draws one more than two levels off.
+     */
+    static EncounterWeights byTypeAndBand(Map<MonsterType, Double> typeWeights, double... bandWeights) {
+        Map<MonsterType, Double> types = new EnumMap<>(MonsterType.class);
+        types.putAll(typeWeights);
+        double[] bands = bandWeights.clone();
+        return (monster, partyLevel) -> {
+            double weight = types.getOrDefault(monster.getMonsterType(), 1.0);
+            if (bands.length > 0) {
+                int distance = Math.abs(monster.getLevel() - partyLevel);
+                weight *= bands[Math.min(distance, bands.length - 1)];
+            }
+            return weight;
+        };
+    }
+}
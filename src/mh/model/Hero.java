@@ -1,19 +1,24 @@
 package mh.model;
 
 import java.util.ArrayList;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Set;
 import java.util.Random;
 import mh.items.Armor;
 import mh.items.Item;
+import mh.items.ItemStack;
 import mh.items.Potion;
 import mh.items.Spell;
 import mh.items.Weapon;
 import mh.util.ColorUtil;
+import mh.model.event.DomainEventListener;
+import mh.model.event.EquipRejection;
 
 public class Hero extends Creature {
     public enum HeroClass { WARRIOR, SORCERER, PALADIN }
 
-    private static final double HERO_CRIT_CHANCE = 0.10;
+    public static final double HERO_CRIT_CHANCE = 0.10;
 
     private double mana;
     private double maxMana;
@@ -24,10 +29,21 @@ public class Hero extends Creature {
     private final Inventory inventory;
     private Weapon equippedWeapon;
     private Armor equippedArmor;
-    private final List<Spell> spells;
     private int baseMaxHp;
     private int battleMaxHp;
     private boolean inBattle;
+    private DomainEventListener events = DomainEventListener.NO_OP;
+    // Temporary modifiers over the base attributes held in Creature. Insertion-ordered so sums are
+    // reproducible; StatModifier has identity equality, so removal is O(1) and exact.
+    private final Set<StatModifier> modifiers = new LinkedHashSet<>();
+    // Derived values rebuilt on the first read after attributes, modifiers, weapon or arithmetic change.
+    private boolean derivedDirty = true;
+    private CombatArithmetic derivedArithmetic;
+    private double effectiveStrength;
+    private double effectiveDexterity;
+    private double effectiveAgility;
+    private double derivedAttackDamage;
+    private double derivedDodgeChance;
 
     public Hero(String name, int mana, double strength, double agility, double dexterity, int gold, int experience, HeroClass heroClass) {
         super(name, 1, 100,
@@ -43,7 +59,6 @@ public class Hero extends Creature {
         this.inventory = new Inventory();
         this.mana = normalizeMana(mana);
         this.maxMana = this.mana;
-        this.spells = new ArrayList<>();
         this.baseMaxHp = 100 * level;
         this.battleMaxHp = baseMaxHp;
         setBattleMaxHp(baseMaxHp);
@@ -52,22 +67,128 @@ public class Hero extends Creature {
         classPolicy.applyInitialBoosts(this);
     }
 
+    private Hero(Hero other) {
+        super(other.name, other.level, other.hp, other.strength, other.dexterity, other.agility,
+                other.defense, other.dodgeChance);
+        this.mana = other.mana;
+        this.maxMana = other.maxMana;
+        this.gold = other.gold;
+        this.experience = other.experience;
+        this.heroClass = other.heroClass;
+        this.classPolicy = other.classPolicy;
+        this.inventory = new Inventory();
+        for (ItemStack<? extends Item> stack : other.inventory.getStacks()) {
+            inventory.addItem(stack.getItem().copy(), stack.getCount());
+        }
+        this.equippedWeapon = other.equippedWeapon != null ? other.equippedWeapon.copy() : null;
+        this.equippedArmor = other.equippedArmor != null ? other.equippedArmor.copy() : null;
+        this.modifiers.addAll(other.modifiers);
+        this.baseMaxHp = other.baseMaxHp;
+        this.battleMaxHp = other.baseMaxHp;
+        setBattleMaxHp(other.baseMaxHp);
+        this.inBattle = false;
+    }
+
+    /**
+     * Deep copy with its own inventory and gear, so simulations never touch the original hero.
+     * The copy starts with no event listener.
+     */
+    public Hero copy() {
+        return new Hero(this);
+    }
+
+    /**
+     * Overwrites level, vitals and attributes with previously captured values, bypassing the
+     * normalization and class boosts of the constructor. Used to rebuild a hero exactly for replays.
+     */
+    public void restoreStats(int level, double hp, double mana, double maxMana, double strength,
+                             double dexterity, double agility, int gold, int experience, int baseMaxHp) {
+        this.level = level;
+        this.strength = strength;
+        this.dexterity = dexterity;
+        this.agility = agility;
+        statsChanged();
+        this.gold = gold;
+        this.experience = experience;
+        this.maxMana = maxMana;
+        this.mana = mana;
+        this.baseMaxHp = baseMaxHp;
+        setBattleMaxHp(baseMaxHp);
+        this.hp = hp;
+        setFainted(hp <= 0);
+    }
+
     public double getMana() {
         return mana;
     }
 
+    /**
+     * Effective strength: the base value with every active {@link StatModifier} applied.
+     */
+    @Override
     public double getStrength() {
-        return strength;
+        refreshDerived();
+        return effectiveStrength;
     }
 
+    @Override
     public double getDexterity() {
-        return dexterity;
+        refreshDerived();
+        return effectiveDexterity;
     }
 
+    @Override
     public double getAgility() {
+        refreshDerived();
+        return effectiveAgility;
+    }
+
+    /**
+     * Strength before modifiers: the value potions, level-ups and class boosts change.
+     */
+    public double getBaseStrength() {
+        return strength;
+    }
+
+    public double getBaseDexterity() {
+        return dexterity;
+    }
+
+    public double getBaseAgility() {
         return agility;
     }
 
+    /**
+     * Applies a temporary modifier on top of the base attributes. Permanent gains (potions,
+     * level-ups, class boosts) change the base instead, so later growth compounds on them.
+     */
+    public void addModifier(StatModifier modifier) {
+        if (modifiers.add(modifier)) {
+            statsChanged();
+        }
+    }
+
+    /**
+     * Removes exactly this modifier; the attribute returns to what it would be had it never applied.
+     */
+    public boolean removeModifier(StatModifier modifier) {
+        boolean removed = modifiers.remove(modifier);
+        if (removed) {
+            statsChanged();
+        }
+        return removed;
+    }
+
+    public void removeModifiersFrom(Object source) {
+        if (modifiers.removeIf(modifier -> modifier.getSource() == source)) {
+            statsChanged();
+        }
+    }
+
+    public List<StatModifier> getModifiers() {
+        return new ArrayList<>(modifiers);
+    }
+
     public double getMaxMana() {
         return maxMana;
     }
@@ -98,6 +219,17 @@ public class Hero extends Creature {
         }
     }
 
+    /**
+     * Subscribes the UI (or a batch aggregator) to this hero's level-up, potion and equipment events.
+     */
+    public void setEventListener(DomainEventListener listener) {
+        this.events = listener != null ? listener : DomainEventListener.NO_OP;
+    }
+
+    public HeroClass getHeroClass() {
+        return heroClass;
+    }
+
     public int getGold() {
         return gold;
     }
@@ -118,17 +250,22 @@ public class Hero extends Creature {
         return equippedArmor;
     }
 
+    /**
+     * The spells in the inventory, one entry per copy held; identical copies share one object.
+     */
     public List<Spell> getSpells() {
-        return new ArrayList<>(spells);
+        return new ArrayList<>(inventory.getSpells());
     }
 
     public void addSpell(Spell spell) {
-        spells.add(spell);
         inventory.addItem(spell);
     }
 
+    public boolean knowsSpell(Spell spell) {
+        return spell != null && inventory.contains(spell);
+    }
+
     public void removeSpell(Spell spell) {
-        spells.remove(spell);
         inventory.removeItem(spell);
     }
 
@@ -158,12 +295,13 @@ public class Hero extends Creature {
     }
 
     private void swapWeapon(Weapon chosen) {
-        if (equippedWeapon != null && equippedWeapon.isUsable() && !inventory.getAllItems().contains(equippedWeapon)) {
+        if (equippedWeapon != null && equippedWeapon.isUsable() && !inventory.contains(equippedWeapon)) {
             // Return previously equipped weapon to the bag exactly once
             inventory.addItem(equippedWeapon);
         }
         equippedWeapon = chosen;
         inventory.removeItem(chosen);
+        statsChanged();
     }
 
     public void equipArmor(Armor armor) {
@@ -188,7 +326,7 @@ public class Hero extends Creature {
     }
 
     private void swapArmor(Armor chosen) {
-        if (equippedArmor != null && equippedArmor.isUsable() && !inventory.getAllItems().contains(equippedArmor)) {
+        if (equippedArmor != null && equippedArmor.isUsable() && !inventory.contains(equippedArmor)) {
             // Return previously equipped armor to the bag exactly once
             inventory.addItem(equippedArmor);
         }
@@ -198,11 +336,11 @@ public class Hero extends Creature {
 
     private boolean canEquipItem(Item item) {
         if (!meetsLevel(item)) {
-            System.out.println("Your level is too low to equip this item.");
+            events.onEquipRejected(this, item, EquipRejection.LEVEL_TOO_LOW);
             return false;
         }
         if (!item.isUsable()) {
-            System.out.println("This item has no durability left.");
+            events.onEquipRejected(this, item, EquipRejection.NO_DURABILITY);
             return false;
         }
         return true;
@@ -218,19 +356,12 @@ public class Hero extends Creature {
 
     public void purchase(Item item) {
         gold -= item.getPrice();
-        if (item instanceof Spell) {
-            addSpell((Spell) item);
-        } else {
-            inventory.addItem(item);
-        }
+        inventory.addItem(item);
     }
 
     public void sell(Item item) {
         gold += item.getPrice() / 2;
         inventory.removeItem(item);
-        if (item instanceof Spell) {
-            spells.remove(item);
-        }
     }
 
     public void restoreMana(double amount) {
@@ -246,14 +377,17 @@ public class Hero extends Creature {
 
     public void increaseStrength(double amount) {
         strength += amount;
+        statsChanged();
     }
 
     public void increaseDexterity(double amount) {
         dexterity += amount;
+        statsChanged();
     }
 
     public void increaseAgility(double amount) {
         agility += amount;
+        statsChanged();
     }
 
     /**
@@ -266,8 +400,9 @@ public class Hero extends Creature {
             return false;
         }
         Potion potion = potions.get(inventoryIndex);
-        potion.use(this);
-        inventory.removeItem(potion);
+        double effect = potion.use(this);
+        events.onPotionApplied(this, potion, effect);
+        inventory.removePotion(inventoryIndex);
         return true;
     }
 
@@ -290,19 +425,17 @@ public class Hero extends Creature {
     }
 
     public double attackDamage() {
-        double weaponDamage = equippedWeapon != null ? equippedWeapon.getDamage() : 0;
-        // BALANCING FIX: blend strength/weapon so early heroes land 15-60 raw damage.
-        double rawDamage = (strength * 0.3) + (weaponDamage * 0.7);
-        return Math.max(5, rawDamage);
+        refreshDerived();
+        return derivedAttackDamage;
     }
 
     @Override
-    public AttackResult attack(Creature target, Random random) {
+    public double strike(Creature target, Random random) {
         if (target == null) {
-            return AttackResult.dodged();
+            return AttackOutcome.DODGED;
         }
         if (random.nextDouble() < target.getDodgeChance()) {
-            return AttackResult.dodged();
+            return AttackOutcome.DODGED;
         }
         double damage = attackDamage();
         boolean critical = random.nextDouble() < HERO_CRIT_CHANCE;
@@ -313,17 +446,17 @@ public class Hero extends Creature {
         double mitigated = applyDamageReduction(damage, targetDefense);
         double applied = target.takeDamage(mitigated);
         tickWeaponDurability();
-        return AttackResult.hit(applied, critical);
+        return AttackOutcome.hit(applied, critical);
     }
 
     public double spellDamage(Spell spell) {
-        return spell.getBaseDamage() + (dexterity / 10000.0) * spell.getBaseDamage();
+        return CombatArithmetics.current().spellDamage(spell.getBaseDamage(), getDexterity());
     }
 
     @Override
     public double getDodgeChance() {
-        // Keep dodge chance meaningful but below guaranteed avoidance
-        return Math.min(0.35, agility * 0.0005);
+        refreshDerived();
+        return derivedDodgeChance;
     }
 
     public double dodgeChance() {
@@ -366,9 +499,10 @@ public class Hero extends Creature {
             strength *= 1.03;
             dexterity *= 1.03;
             agility *= 1.03;
+            statsChanged();
             // FEATURE FROM PRIYANSHU + BALANCING FIX: Favored stats still get extra boosts but at 1.05.
             classPolicy.applyLevelUpBoosts(this);
-            System.out.printf("%s leveled up to level %d! Stats increased.%n", name, level);
+            events.onLevelUp(this, level);
             needed = level * 10;
         }
     }
@@ -376,7 +510,7 @@ public class Hero extends Creature {
     public String fullInfo() {
         String weaponName = equippedWeapon != null ? equippedWeapon.getName() : "None";
         String armorName = equippedArmor != null ? equippedArmor.getName() : "None";
-        return String.format("%s (Lvl %d) HP: %.0f MP: %.0f STR: %.0f DEX: %.0f AGI: %.0f Gold: %d XP: %d Weapon: %s Armor: %s", name, level, hp, mana, strength, dexterity, agility, gold, experience, weaponName, armorName);
+        return String.format("%s (Lvl %d) HP: %.0f MP: %.0f STR: %.0f DEX: %.0f AGI: %.0f Gold: %d XP: %d Weapon: %s Armor: %s", name, level, hp, mana, getStrength(), getDexterity(), getAgility(), gold, experience, weaponName, armorName);
     }
 
     @Override
@@ -400,6 +534,45 @@ public class Hero extends Creature {
         strength *= strengthFactor;
         dexterity *= dexterityFactor;
         agility *= agilityFactor;
+        statsChanged();
+    }
+
+    private void statsChanged() {
+        derivedDirty = true;
+    }
+
+    private void refreshDerived() {
+        CombatArithmetic arithmetic = CombatArithmetics.current();
+        if (!derivedDirty && arithmetic == derivedArithmetic) {
+            return;
+        }
+        effectiveStrength = effective(StatModifier.Stat.STRENGTH, strength);
+        effectiveDexterity = effective(StatModifier.Stat.DEXTERITY, dexterity);
+        effectiveAgility = effective(StatModifier.Stat.AGILITY, agility);
+        double weaponDamage = equippedWeapon != null ? equippedWeapon.getDamage() : 0;
+        derivedAttackDamage = arithmetic.heroAttackDamage(effectiveStrength, weaponDamage);
+        derivedDodgeChance = arithmetic.heroDodgeChance(effectiveAgility);
+        derivedArithmetic = arithmetic;
+        derivedDirty = false;
+    }
+
+    private double effective(StatModifier.Stat stat, double base) {
+        if (modifiers.isEmpty()) {
+            return base;
+        }
+        double added = 0;
+        double factor = 1;
+        for (StatModifier modifier : modifiers) {
+            if (modifier.getStat() != stat) {
+                continue;
+            }
+            if (modifier.getKind() == StatModifier.Kind.ADDITIVE) {
+                added += modifier.getAmount();
+            } else {
+                factor *= modifier.getAmount();
+            }
+        }
+        return (base + added) * factor;
     }
 
     public void prepareForBattle() {
@@ -425,8 +598,9 @@ public class Hero extends Creature {
         }
         equippedWeapon.consumeUse();
         if (!equippedWeapon.isUsable()) {
-            System.out.printf("%s's %s broke!%n", name, equippedWeapon.getName());
+            events.onItemBroke(this, equippedWeapon);
             equippedWeapon = null;
+            statsChanged();
         }
     }
 
@@ -437,7 +611,7 @@ public class Hero extends Creature {
         }
         equippedArmor.consumeUse();
         if (!equippedArmor.isUsable()) {
-            System.out.printf("%s's %s crumbled away!%n", name, equippedArmor.getName());
+            events.onItemBroke(this, equippedArmor);
             equippedArmor = null;
         }
     }
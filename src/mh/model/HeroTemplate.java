@@ -0,0 +1,78 @@
+package mh.model;
+
+import mh.model.Hero.HeroClass;
+
+/**
+ * A hero as loaded from the data files, shared by every session that reads the same
+ * {@link mh.data.GameData}. Players never get the template itself: {@link #newHero} returns a
+ * fresh hero with its own HP, gold and inventory.
+ *
+ * <p>The template holds the raw values from the data file and builds each hero from them, so no
+ * {@link Hero} is ever shared. What menus show is rendered once, when the template is built, into
+ * final fields; that keeps a template safe to share between threads.</p>
+ */
+public final class HeroTemplate {
+    private final String name;
+    private final int mana;
+    private final double strength;
+    private final double agility;
+    private final double dexterity;
+    private final int gold;
+    private final int experience;
+    private final HeroClass heroClass;
+    private final int level;
+    private final double maxHp;
+    private final double maxMana;
+    private final String fullInfo;
+    private final String favoredStats;
+
+    public HeroTemplate(String name, int mana, double strength, double agility, double dexterity, int gold,
+                        int experience, HeroClass heroClass) {
+        this.name = name;
+        this.mana = mana;
+        this.strength = strength;
+        this.agility = agility;
+        this.dexterity = dexterity;
+        this.gold = gold;
+        this.experience = experience;
+        this.heroClass = heroClass;
+        Hero sample = newHero();
+        this.level = sample.getLevel();
+        this.maxHp = sample.getMaxHp();
+        this.maxMana = sample.getMaxMana();
+        this.fullInfo = sample.fullInfo();
+        this.favoredStats = sample.favoredStats();
+    }
+
+    public Hero newHero() {
+        return new Hero(name, mana, strength, agility, dexterity, gold, experience, heroClass);
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public HeroClass getHeroClass() {
+        return heroClass;
+    }
+
+    public int getLevel() {
+        return level;
+    }
+
+    public double getMaxHp() {
+        return maxHp;
+    }
+
+    public double getMaxMana() {
+        return maxMana;
+    }
+
+    public String fullInfo() {
+        return fullInfo;
+    }
+
+    public String favoredStats() {
+        return favoredStats;
+    }
+}
@@ -1,48 +1,408 @@
 package mh.model;
 
+import java.util.AbstractList;
 import java.util.ArrayList;
+import java.util.ConcurrentModificationException;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NoSuchElementException;
 import java.util.Optional;
-import java.util.stream.Collectors;
 
 import mh.items.Armor;
 import mh.items.Item;
+import mh.items.ItemStack;
 import mh.items.Potion;
 import mh.items.Spell;
 import mh.items.Weapon;
 
+/**
+ * A hero's bag, kept in one bucket per item category plus a case-insensitive name index.
+ *
+ * <p>Items that {@link Item#stacksWith stack} are held once as a template with a count, so ten
+ * identical potions cost one object; weapons and armor never stack and keep their own durability.
+ * The category getters return read-only live views that repeat each template as many times as it
+ * is held: they cost nothing to obtain and reflect later changes, so read what you need before
+ * adding or removing items; iterating a view across a change throws
+ * {@link ConcurrentModificationException}. Within a category, stacks keep the order they were first
+ * added in, which is what menu and action indices refer to.</p>
+ */
 public class Inventory {
-    private final List<Item> items = new ArrayList<>();
+    private final Bucket<Weapon> weapons = new Bucket<>();
+    private final Bucket<Armor> armors = new Bucket<>();
+    private final Bucket<Potion> potions = new Bucket<>();
+    private final Bucket<Spell> spells = new Bucket<>();
+    // Lower-cased name -> templates carrying it, in the order they were added.
+    private final Map<String, List<Item>> byName = new HashMap<>();
+    private final Map<Item, ItemStack<?>> stacks = new IdentityHashMap<>();
 
     public void addItem(Item item) {
-        items.add(item);
+        addItem(item, 1);
     }
 
+    /**
+     * Adds {@code count} items like {@code item}. If a held template stacks with it, only the count
+     * grows and {@code item} itself is not kept.
+     */
+    public void addItem(Item item, int count) {
+        if (count < 1) {
+            throw new IllegalArgumentException("count must be positive");
+        }
+        String key = nameKey(item.getName());
+        List<Item> named = byName.get(key);
+        if (named != null) {
+            for (Item held : named) {
+                if (held.stacksWith(item)) {
+                    bucketFor(held).grow(stacks.get(held), count);
+                    return;
+                }
+            }
+        }
+        ItemStack<?> stack;
+        if (item instanceof Weapon) {
+            stack = weapons.push((Weapon) item, count);
+        } else if (item instanceof Armor) {
+            stack = armors.push((Armor) item, count);
+        } else if (item instanceof Potion) {
+            stack = potions.push((Potion) item, count);
+        } else if (item instanceof Spell) {
+            stack = spells.push((Spell) item, count);
+        } else {
+            throw new IllegalArgumentException("Unsupported item type: " + item.getClass().getSimpleName());
+        }
+        stacks.put(item, stack);
+        if (named == null) {
+            named = new ArrayList<>(1);
+            byName.put(key, named);
+        }
+        named.add(item);
+    }
+
+    /**
+     * Removes one of {@code item}, which must be a held template (as returned by the getters).
+     */
     public void removeItem(Item item) {
-        items.remove(item);
+        ItemStack<?> stack = item != null ? stacks.get(item) : null;
+        if (stack != null) {
+            takeOne(stack);
+        }
+    }
+
+    /**
+     * Removes and returns one potion at {@code index} of {@link #getPotions()}.
+     */
+    public Potion removePotion(int index) {
+        ItemStack<Potion> stack = potions.stackAt(index);
+        takeOne(stack);
+        return stack.getItem();
+    }
+
+    public boolean contains(Item item) {
+        return item != null && stacks.containsKey(item);
     }
 
+    public int countOf(Item item) {
+        ItemStack<?> stack = item != null ? stacks.get(item) : null;
+        return stack == null ? 0 : stack.getCount();
+    }
+
+    /**
+     * Number of items held, counting every item in a stack.
+     */
+    public int size() {
+        return weapons.size + armors.size + potions.size + spells.size;
+    }
+
+    /**
+     * Snapshot of every item, grouped by category (weapons, armor, potions, spells), with stacked
+     * templates repeated once per item held.
+     */
     public List<Item> getAllItems() {
-        return new ArrayList<>(items);
+        List<Item> all = new ArrayList<>(size());
+        all.addAll(weapons);
+        all.addAll(armors);
+        all.addAll(potions);
+        all.addAll(spells);
+        return all;
+    }
+
+    /**
+     * Snapshot of the stacks in the same grouping as {@link #getAllItems()}; for display.
+     */
+    public List<ItemStack<? extends Item>> getStacks() {
+        List<ItemStack<? extends Item>> all = new ArrayList<>(stacks.size());
+        all.addAll(weapons.stackView);
+        all.addAll(armors.stackView);
+        all.addAll(potions.stackView);
+        all.addAll(spells.stackView);
+        return all;
     }
 
     public List<Weapon> getWeapons() {
-        return items.stream().filter(i -> i instanceof Weapon).map(i -> (Weapon) i).collect(Collectors.toList());
+        return weapons;
     }
 
     public List<Armor> getArmors() {
-        return items.stream().filter(i -> i instanceof Armor).map(i -> (Armor) i).collect(Collectors.toList());
+        return armors;
     }
 
     public List<Potion> getPotions() {
-        return items.stream().filter(i -> i instanceof Potion).map(i -> (Potion) i).collect(Collectors.toList());
+        return potions;
+    }
+
+    public List<ItemStack<Potion>> getPotionStacks() {
+        return potions.stackView;
     }
 
     public List<Spell> getSpells() {
-        return items.stream().filter(i -> i instanceof Spell).map(i -> (Spell) i).collect(Collectors.toList());
+        return spells;
+    }
+
+    public List<ItemStack<Spell>> getSpellStacks() {
+        return spells.stackView;
     }
 
     public Optional<Item> findByName(String name) {
-        return items.stream().filter(i -> i.getName().equalsIgnoreCase(name)).findFirst();
+        List<Item> named = byName.get(nameKey(name));
+        return named == null ? Optional.empty() : Optional.of(named.get(0));
+    }
+
+    private void takeOne(ItemStack<?> stack) {
+        Item item = stack.getItem();
+        if (!bucketFor(item).takeOne(stack)) {
+            return;
+        }
+        stacks.remove(item);
+        String key = nameKey(item.getName());
+        List<Item> named = byName.get(key);
+        named.remove(item);
+        if (named.isEmpty()) {
+            byName.remove(key);
+        }
+    }
+
+    private Bucket<?> bucketFor(Item item) {
+        if (item instanceof Weapon) {
+            return weapons;
+        }
+        if (item instanceof Armor) {
+            return armors;
+        }
+        if (item instanceof Potion) {
+            return potions;
+        }
+        return spells;
+    }
+
+    private static String nameKey(String name) {
+        return name.toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * One category's stacks, presented as a read-only list with each template repeated per item.
+     *
+     * <p>Stacks sit in slots in the order they were added. An emptied stack leaves its slot empty
+     * until more than half the slots are, when the live stacks are packed again, so removal is
+     * amortized constant time. Two Fenwick trees over the slots sum item counts and live stacks, which
+     * finds the stack behind a list index in O(log n); iteration walks the slots directly.</p>
+     */
+    private static final class Bucket<T extends Item> extends AbstractList<T> {
+        private static final int INITIAL_SLOTS = 8;
+
+        private ItemStack<T>[] slots = newSlots(INITIAL_SLOTS);
+        // 1-based Fenwick trees over slots: items held, and 1 per live stack
+        private int[] itemTree = new int[INITIAL_SLOTS + 1];
+        private int[] stackTree = new int[INITIAL_SLOTS + 1];
+        private final Map<ItemStack<?>, Integer> slotOf = new IdentityHashMap<>();
+        private final StackView stackView = new StackView();
+        // Slots handed out since the last packing, including emptied ones.
+        private int used;
+        private int live;
+        private int size;
+
+        ItemStack<T> push(T item, int count) {
+            if (used == slots.length) {
+                pack(slots.length * 2);
+            }
+            ItemStack<T> stack = new ItemStack<>(item, count);
+            slots[used] = stack;
+            slotOf.put(stack, used);
+            add(itemTree, used, count);
+            add(stackTree, used, 1);
+            used++;
+            live++;
+            size += count;
+            changed();
+            return stack;
+        }
+
+        void grow(ItemStack<?> stack, int count) {
+            stack.add(count);
+            add(itemTree, slotOf.get(stack), count);
+            size += count;
+            changed();
+        }
+
+        /**
+         * @return whether that was the stack's last item, so the stack is gone
+         */
+        boolean takeOne(ItemStack<?> stack) {
+            int slot = slotOf.get(stack);
+            add(itemTree, slot, -1);
+            size--;
+            changed();
+            if (!stack.removeOne()) {
+                return false;
+            }
+            slots[slot] = null;
+            slotOf.remove(stack);
+            add(stackTree, slot, -1);
+            live--;
+            if (live < used / 2) {
+                pack(Math.max(INITIAL_SLOTS, slots.length / 2));
+            }
+            return true;
+        }
+
+        ItemStack<T> stackAt(int index) {
+            if (index < 0 || index >= size) {
+                throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+            }
+            return slots[find(itemTree, index)];
+        }
+
+        @Override
+        public T get(int index) {
+            return stackAt(index).getItem();
+        }
+
+        @Override
+        public int size() {
+            return size;
+        }
+
+        @Override
+        public boolean contains(Object o) {
+            for (int slot = 0; slot < used; slot++) {
+                if (slots[slot] != null && slots[slot].getItem().equals(o)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        @Override
+        public Iterator<T> iterator() {
+            return new Iterator<T>() {
+                private final int expectedModCount = modCount;
+                private int slot = -1;
+                private int leftInSlot;
+                private int returned;
+
+                @Override
+                public boolean hasNext() {
+                    return returned < size;
+                }
+
+                @Override
+                public T next() {
+                    if (modCount != expectedModCount) {
+                        throw new ConcurrentModificationException();
+                    }
+                    if (returned >= size) {
+                        throw new NoSuchElementException();
+                    }
+                    while (leftInSlot == 0) {
+                        slot++;
+                        leftInSlot = slots[slot] == null ? 0 : slots[slot].getCount();
+                    }
+                    leftInSlot--;
+                    returned++;
+                    return slots[slot].getItem();
+                }
+            };
+        }
+
+        private void changed() {
+            modCount++;
+            stackView.changed();
+        }
+
+        // Moves the live stacks to the front of a fresh array of the given capacity, in order.
+        private void pack(int capacity) {
+            ItemStack<T>[] packed = newSlots(Math.max(capacity, live));
+            int[] items = new int[packed.length + 1];
+            int[] stacks = new int[packed.length + 1];
+            slotOf.clear();
+            int next = 0;
+            for (int slot = 0; slot < used; slot++) {
+                if (slots[slot] != null) {
+                    packed[next] = slots[slot];
+                    slotOf.put(slots[slot], next);
+                    items[next + 1] = slots[slot].getCount();
+                    stacks[next + 1] = 1;
+                    next++;
+                }
+            }
+            for (int i = 1; i < items.length; i++) {
+                int parent = i + (i & -i);
+                if (parent < items.length) {
+                    items[parent] += items[i];
+                    stacks[parent] += stacks[i];
+                }
+            }
+            slots = packed;
+            itemTree = items;
+            stackTree = stacks;
+            used = next;
+        }
+
+        private static void add(int[] tree, int slot, int delta) {
+            for (int i = slot + 1; i < tree.length; i += i & -i) {
+                tree[i] += delta;
+            }
+        }
+
+        // Slot whose range of counts covers the 0-based position.
+        private static int find(int[] tree, int position) {
+            int slot = 0;
+            for (int step = Integer.highestOneBit(tree.length - 1); step > 0; step >>= 1) {
+                if (slot + step < tree.length && tree[slot + step] <= position) {
+                    slot += step;
+                    position -= tree[slot];
+                }
+            }
+            return slot;
+        }
+
+        @SuppressWarnings("unchecked")
+        private static <T extends Item> ItemStack<T>[] newSlots(int capacity) {
+            return (ItemStack<T>[]) new ItemStack<?>[capacity];
+        }
+
+        /**
+         * The live stacks in order, read-only.
+         */
+        private final class StackView extends AbstractList<ItemStack<T>> {
+            @Override
+            public ItemStack<T> get(int index) {
+                if (index < 0 || index >= live) {
+                    throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + live);
+                }
+                return slots[find(stackTree, index)];
+            }
+
+            @Override
+            public int size() {
+                return live;
+            }
+
+            void changed() {
+                modCount++;
+            }
+        }
     }
 }
@@ -1,18 +1,32 @@
 package mh.model;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Random;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 import mh.items.Armor;
 import mh.util.ColorUtil;
 
 public class Monster extends Creature {
-    private static final double MONSTER_CRIT_CHANCE = 0.05;
+    public static final double MONSTER_CRIT_CHANCE = 0.05;
 
     private double baseDamage;
     private final MonsterType monsterType;
     private final double templateDamage;
     private final double templateDefense;
     private final double templateDodge;
+    // Timed spell debuffs, maintained by StatusEffects; the factors are their product per stat.
+    private List<StatusEffects.Active> statuses;
+    private double damageFactor = 1;
+    private double defenseFactor = 1;
+    private double dodgeFactor = 1;
+    // Scaled prototypes of this template by arithmetic mode and level; spawns clone them.
+    private volatile ConcurrentMap<CombatArithmetic, ConcurrentMap<Integer, Monster>> scaledPrototypes;
+    // Set on instances handed out by a MonsterPool: where to reset from, and whether it is parked.
+    Monster pooledFrom;
+    boolean pooledIdle;
 
     public Monster(String name, int level, double baseDamage, double defense, double dodgePercent, MonsterType monsterType) {
         // BALANCING FIX: increase monster HP scaling for better survivability.
@@ -35,6 +49,24 @@ public class Monster extends Creature {
         this.templateDodge = this.dodgeChance;
     }
 
+    private Monster(Monster other) {
+        super(other.name, other.level, other.maxHp, 0, 0, 0, other.defense, other.dodgeChance);
+        this.hp = other.hp;
+        setFainted(other.isFainted());
+        this.baseDamage = other.baseDamage;
+        this.monsterType = other.monsterType;
+        this.templateDamage = other.templateDamage;
+        this.templateDefense = other.templateDefense;
+        this.templateDodge = other.templateDodge;
+    }
+
+    /**
+     * Copy with the same stats and HP but no status effects and no prototype cache.
+     */
+    public Monster copy() {
+        return new Monster(this);
+    }
+
     private double clampDodge(double value) {
         return Math.min(0.5, Math.max(0, value));
     }
@@ -57,47 +89,95 @@ public class Monster extends Creature {
     }
 
     public double getBaseDamage() {
-        return baseDamage;
+        return baseDamage * damageFactor;
     }
 
+    @Override
     public double getDefense() {
-        return defense;
+        return defense * defenseFactor;
     }
 
+    @Override
     public double getDodgeChance() {
-        return dodgeChance;
+        return dodgeChance * dodgeFactor;
     }
 
-    public MonsterType getMonsterType() {
-        return monsterType;
+    /**
+     * Names of the timed effects currently on this monster, one entry per stack.
+     */
+    public List<String> getStatusEffects() {
+        List<String> names = new ArrayList<>();
+        if (statuses != null) {
+            for (StatusEffects.Active active : statuses) {
+                names.add(active.effect.getName());
+            }
+        }
+        return names;
+    }
+
+    List<StatusEffects.Active> statuses() {
+        if (statuses == null) {
+            statuses = new ArrayList<>(2);
+        }
+        return statuses;
+    }
+
+    void refreshStatusFactors() {
+        // Rebuilt from the remaining stacks rather than divided out, so expiry restores stats exactly.
+        damageFactor = 1;
+        defenseFactor = 1;
+        dodgeFactor = 1;
+        for (StatusEffects.Active active : statuses()) {
+            double factor = 1 - active.effect.getPercent();
+            switch (active.effect.getStat()) {
+                case DAMAGE:
+                    damageFactor *= factor;
+                    break;
+                case DEFENSE:
+                    defenseFactor *= factor;
+                    break;
+                case DODGE:
+                    dodgeFactor *= factor;
+                    break;
+                default:
+                    break;
+            }
+        }
     }
 
-    public void reduceBaseDamage(double percent) {
-        baseDamage *= (1 - percent);
+    public MonsterType getMonsterType() {
+        return monsterType;
     }
 
-    public void reduceDefense(double percent) {
-        defense *= (1 - percent);
+    /**
+     * Overwrites combat stats with previously captured values, bypassing normalization; used by replays.
+     */
+    public void restoreStats(double hp, double baseDamage, double defense, double dodgeChance) {
+        this.hp = hp;
+        this.baseDamage = baseDamage;
+        this.defense = defense;
+        this.dodgeChance = dodgeChance;
+        setFainted(hp <= 0);
     }
 
-    public void reduceDodge(double percent) {
-        dodgeChance *= (1 - percent);
+    public double attackDamage() {
+        return CombatArithmetics.current().monsterAttackDamage(getBaseDamage(), level);
     }
 
     @Override
-    public AttackResult attack(Creature target, Random random) {
+    public double strike(Creature target, Random random) {
         if (target == null) {
-            return AttackResult.dodged();
+            return AttackOutcome.DODGED;
         }
         if (random.nextDouble() < target.getDodgeChance()) {
-            return AttackResult.dodged();
+            return AttackOutcome.DODGED;
         }
         double armorMitigation = 0;
         if (target instanceof Hero) {
             Armor armor = ((Hero) target).getEquippedArmor();
             armorMitigation = armor != null ? armor.getDamageReduction() : 0;
         }
-        double damage = baseDamage + (level * 5);
+        double damage = attackDamage();
         boolean critical = random.nextDouble() < MONSTER_CRIT_CHANCE;
         if (critical) {
             damage *= 2;
@@ -106,16 +186,55 @@ public class Monster extends Creature {
         if (applied > 0 && target instanceof Hero) {
             ((Hero) target).tickArmorDurability();
         }
-        return AttackResult.hit(applied, critical);
+        return AttackOutcome.hit(applied, critical);
     }
 
     // FEATURE FROM PRIYANSHU: Monsters scale to the highest hero level.
     public Monster scaledCopyForLevel(int targetLevel) {
+        return scaledPrototype(targetLevel).copy();
+    }
+
+    /**
+     * The shared, never-mutated prototype for {@code targetLevel}; callers must copy it.
+     */
+    Monster scaledPrototype(int targetLevel) {
         if (targetLevel <= 0) {
             targetLevel = 1;
         }
-        double levelDelta = targetLevel - level;
-        double scaling = Math.pow(1.05, levelDelta);
+        // Spawns are frequent and the scaled stats depend only on (template, level, arithmetic), so
+        // each combination is built once and every spawn is a field copy of that prototype.
+        CombatArithmetic arithmetic = CombatArithmetics.current();
+        ConcurrentMap<Integer, Monster> byLevel = prototypes().computeIfAbsent(arithmetic, key -> new ConcurrentHashMap<>());
+        Monster prototype = byLevel.get(targetLevel);
+        if (prototype == null) {
+            prototype = byLevel.computeIfAbsent(targetLevel, level -> buildScaled(level, arithmetic));
+        }
+        return prototype;
+    }
+
+    /**
+     * Returns this instance to the exact state of a fresh copy of {@code prototype}: full HP, no
+     * status effects, not fainted. Only valid for the prototype this instance was copied from.
+     */
+    void resetFrom(Monster prototype) {
+        level = prototype.level;
+        maxHp = prototype.maxHp;
+        hp = prototype.hp;
+        baseDamage = prototype.baseDamage;
+        defense = prototype.defense;
+        dodgeChance = prototype.dodgeChance;
+        setFainted(hp <= 0);
+        if (statuses != null) {
+            statuses.clear();
+        }
+        damageFactor = 1;
+        defenseFactor = 1;
+        dodgeFactor = 1;
+    }
+
+    private Monster buildScaled(int targetLevel, CombatArithmetic arithmetic) {
+        int levelDelta = targetLevel - level;
+        double scaling = arithmetic.levelScaling(levelDelta);
         // BALANCING FIX: scale off normalized templates so stats remain within sane bounds.
         double scaledDamage = Math.max(10, templateDamage * 0.2 * scaling);
         double scaledDefense = Math.max(5, templateDefense * 0.2 * scaling);
@@ -123,6 +242,20 @@ public class Monster extends Creature {
         return new Monster(name, targetLevel, scaledDamage, scaledDefense, scaledDodge * 100, monsterType);
     }
 
+    private ConcurrentMap<CombatArithmetic, ConcurrentMap<Integer, Monster>> prototypes() {
+        ConcurrentMap<CombatArithmetic, ConcurrentMap<Integer, Monster>> cache = scaledPrototypes;
+        if (cache == null) {
+            synchronized (this) {
+                cache = scaledPrototypes;
+                if (cache == null) {
+                    cache = new ConcurrentHashMap<>(2);
+                    scaledPrototypes = cache;
+                }
+            }
+        }
+        return cache;
+    }
+
     private double normalizeStat(double value) {
         // FEATURE: Balanced normalization to prevent OP monsters even when raw data is extreme.
         return Math.min(70, Math.max(5, value));
@@ -136,7 +269,7 @@ public class Monster extends Creature {
                 ColorUtil.RED, ColorUtil.RESET, currentHp, maxHpValue,
                 ColorUtil.hpBar(currentHp, maxHpValue));
         return String.format("%s [%s] (Lvl %d) %s DMG: %.0f DEF: %.0f Dodge: %.2f",
-                coloredName(), friendlyTypeColored(), level, hpInfo, baseDamage, defense, dodgeChance);
+                coloredName(), friendlyTypeColored(), level, hpInfo, getBaseDamage(), getDefense(), getDodgeChance());
     }
 
     private String friendlyTypeColored() {
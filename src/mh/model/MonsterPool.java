@@ -0,0 +1,118 @@
+package mh.model;
+
+import java.util.ArrayDeque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Recycles spawned monsters so long sessions do not allocate a new {@link Monster} per encounter.
+ *
+ * <p>{@link #spawn} hands out a monster equal to {@code template.scaledCopyForLevel(level)}, reusing
+ * an idle one of the same template and level when available. {@link #release} takes monsters back
+ * once a battle is over and resets them (HP, status effects, fainted flag) right away, so idle
+ * monsters hold no references into finished battles. At most {@code maxIdle} monsters are kept;
+ * releases beyond that are dropped and counted as evictions.</p>
+ *
+ * <p>Only release monsters nothing else refers to any more. Not thread-safe; use one pool per game loop.</p>
+ */
+public final class MonsterPool {
+    private final int maxIdle;
+    // Idle monsters keyed by the scaled prototype they were copied from.
+    private final Map<Monster, ArrayDeque<Monster>> idle = new HashMap<>();
+    private int idleCount;
+    private long hits;
+    private long misses;
+    private long evictions;
+
+    public MonsterPool(int maxIdle) {
+        if (maxIdle < 0) {
+            throw new IllegalArgumentException("maxIdle must not be negative");
+        }
+        this.maxIdle = maxIdle;
+    }
+
+    public Monster spawn(MonsterTemplate template, int level) {
+        return spawn(template.prototype(), level);
+    }
+
+    public Monster spawn(Monster template, int level) {
+        Monster prototype = template.scaledPrototype(level);
+        ArrayDeque<Monster> free = idle.get(prototype);
+        Monster monster = free != null ? free.pollLast() : null;
+        if (monster != null) {
+            hits++;
+            idleCount--;
+            monster.pooledIdle = false;
+            return monster;
+        }
+        misses++;
+        monster = prototype.copy();
+        monster.pooledFrom = prototype;
+        return monster;
+    }
+
+    /**
+     * @return whether the monster was kept for reuse; monsters from elsewhere and repeats are ignored
+     */
+    public boolean release(Monster monster) {
+        if (monster == null || monster.pooledFrom == null || monster.pooledIdle) {
+            return false;
+        }
+        if (idleCount >= maxIdle) {
+            evictions++;
+            monster.pooledFrom = null;
+            return false;
+        }
+        monster.resetFrom(monster.pooledFrom);
+        monster.pooledIdle = true;
+        idle.computeIfAbsent(monster.pooledFrom, key -> new ArrayDeque<>()).addLast(monster);
+        idleCount++;
+        return true;
+    }
+
+    public void releaseAll(List<Monster> monsters) {
+        for (int i = 0; i < monsters.size(); i++) {
+            release(monsters.get(i));
+        }
+    }
+
+    /**
+     * Drops every idle monster, e.g. after the game data (and so the templates) changed.
+     */
+    public void clear() {
+        idle.clear();
+        idleCount = 0;
+    }
+
+    public int getIdleCount() {
+        return idleCount;
+    }
+
+    public int getMaxIdle() {
+        return maxIdle;
+    }
+
+    public long getHits() {
+        return hits;
+    }
+
+    public long getMisses() {
+        return misses;
+    }
+
+    public long getEvictions() {
+        return evictions;
+    }
+
+    public double hitRate() {
+        long requests = hits + misses;
+        return requests == 0 ? 0 : (double) hits / requests;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("MonsterPool[idle %d/%d, hits %d, misses %d, evictions %d, hit rate %.1f%%]",
+                idleCount, maxIdle, hits, misses, evictions, hitRate() * 100);
+    }
+}
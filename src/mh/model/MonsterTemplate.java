@@ -0,0 +1,42 @@
+package mh.model;
+
+/**
+ * A monster as loaded from the data files. Encounters spawn level-scaled copies through
+ * {@link #spawn} or a {@link MonsterPool}; the template itself is never fought, so one
+ * {@link mh.data.GameData} can serve concurrent sessions.
+ */
+public final class MonsterTemplate {
+    private final Monster prototype;
+
+    public MonsterTemplate(String name, int level, double baseDamage, double defense, double dodgePercent,
+                           MonsterType monsterType) {
+        this.prototype = new Monster(name, level, baseDamage, defense, dodgePercent, monsterType);
+    }
+
+    public Monster spawn(int level) {
+        return prototype.scaledCopyForLevel(level);
+    }
+
+    /**
+     * A new monster at the level given in the data files.
+     */
+    public Monster newMonster() {
+        return prototype.copy();
+    }
+
+    public String getName() {
+        return prototype.getName();
+    }
+
+    public int getLevel() {
+        return prototype.getLevel();
+    }
+
+    public MonsterType getMonsterType() {
+        return prototype.getMonsterType();
+    }
+
+    Monster prototype() {
+        return prototype;
+    }
+}
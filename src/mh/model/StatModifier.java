@@ -0,0 +1,60 @@
+package mh.model;
+
+/**
+ * A temporary adjustment to one hero attribute, such as a terrain buff. Modifiers are compared by
+ * identity, so the holder of a modifier can always remove exactly what it added.
+ *
+ * <p>A hero's effective attribute is {@code (base + sum of additive amounts) * product of factors};
+ * see {@link Hero#addModifier}.</p>
+ */
+public final class StatModifier {
+    public enum Stat { STRENGTH, DEXTERITY, AGILITY }
+
+    public enum Kind { ADDITIVE, MULTIPLICATIVE }
+
+    private final Stat stat;
+    private final Kind kind;
+    private final double amount;
+    private final Object source;
+
+    private StatModifier(Stat stat, Kind kind, double amount, Object source) {
+        this.stat = stat;
+        this.kind = kind;
+        this.amount = amount;
+        this.source = source;
+    }
+
+    public static StatModifier additive(Stat stat, double amount, Object source) {
+        return new StatModifier(stat, Kind.ADDITIVE, amount, source);
+    }
+
+    public static StatModifier multiplicative(Stat stat, double factor, Object source) {
+        return new StatModifier(stat, Kind.MULTIPLICATIVE, factor, source);
+    }
+
+    public Stat getStat() {
+        return stat;
+    }
+
+    public Kind getKind() {
+        return kind;
+    }
+
+    public double getAmount() {
+        return amount;
+    }
+
+    /**
+     * What applied the modifier (a tile, a spell, ...); used to drop everything one source added.
+     */
+    public Object getSource() {
+        return source;
+    }
+
+    @Override
+    public String toString() {
+        return kind == Kind.ADDITIVE
+                ? String.format("%s %+.1f", stat, amount)
+                : String.format("%s x%.2f", stat, amount);
+    }
+}
@@ -0,0 +1,76 @@
+package mh.model;
+
+/**
+ * A timed debuff that a spell leaves on a monster: the stat is reduced by {@code percent} for
+ * {@code durationRounds} rounds. Applying the same effect again follows its {@link Stacking} rule.
+ * Effects are compared by identity, so declare each one once as a constant.
+ */
+public final class StatusEffect {
+    public enum Stat { DAMAGE, DEFENSE, DODGE }
+
+    public enum Stacking {
+        /** Re-applying restarts the duration; the effect never stacks. */
+        REFRESH,
+        /** Each application is its own stack with its own duration, up to the stack limit. */
+        STACK
+    }
+
+    private final String name;
+    private final Stat stat;
+    private final double percent;
+    private final int durationRounds;
+    private final Stacking stacking;
+    private final int maxStacks;
+
+    private StatusEffect(String name, Stat stat, double percent, int durationRounds, Stacking stacking, int maxStacks) {
+        if (durationRounds < 1) {
+            throw new IllegalArgumentException("durationRounds must be at least 1");
+        }
+        this.name = name;
+        this.stat = stat;
+        this.percent = percent;
+        this.durationRounds = durationRounds;
+        this.stacking = stacking;
+        this.maxStacks = maxStacks;
+    }
+
+    public static StatusEffect refreshing(String name, Stat stat, double percent, int durationRounds) {
+        return new StatusEffect(name, stat, percent, durationRounds, Stacking.REFRESH, 1);
+    }
+
+    /**
+     * Once {@code maxStacks} are active, a new application refreshes the oldest stack instead.
+     */
+    public static StatusEffect stacking(String name, Stat stat, double percent, int durationRounds, int maxStacks) {
+        return new StatusEffect(name, stat, percent, durationRounds, Stacking.STACK, maxStacks);
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public Stat getStat() {
+        return stat;
+    }
+
+    public double getPercent() {
+        return percent;
+    }
+
+    public int getDurationRounds() {
+        return durationRounds;
+    }
+
+    public Stacking getStacking() {
+        return stacking;
+    }
+
+    public int getMaxStacks() {
+        return maxStacks;
+    }
+
+    @Override
+    public String toString() {
+        return name;
+    }
+}
@@ -0,0 +1,86 @@
+package mh.model;
+
+import java.util.List;
+import java.util.function.Consumer;
+
+import mh.util.TimingWheel;
+
+/**
+ * Tracks the timed {@link StatusEffect}s of one battle and expires them through a
+ * {@link TimingWheel} keyed by round, so ending a round costs the same whether two monsters or two
+ * hundred carry effects. Battle strategies own one instance, call {@link #endRound} after every
+ * round and {@link #clear} it both when a battle starts and when it ends, so effects left behind by
+ * a battle that threw never reach the next one.
+ */
+public final class StatusEffects {
+    /**
+     * One stack of an effect on one monster.
+     */
+    static final class Active {
+        final Monster target;
+        final StatusEffect effect;
+        TimingWheel.Timer<Active> timer;
+
+        Active(Monster target, StatusEffect effect) {
+            this.target = target;
+            this.effect = effect;
+        }
+    }
+
+    private final TimingWheel<Active> wheel = new TimingWheel<>();
+    private final Consumer<Active> expire = this::expire;
+
+    /**
+     * Applies {@code effect} to {@code target} for the effect's duration; the round it is applied in
+     * counts as the first.
+     */
+    public void apply(Monster target, StatusEffect effect) {
+        List<Active> statuses = target.statuses();
+        Active oldest = null;
+        int stacks = 0;
+        for (int i = 0; i < statuses.size(); i++) {
+            Active active = statuses.get(i);
+            if (active.effect == effect) {
+                stacks++;
+                if (oldest == null) {
+                    oldest = active;
+                }
+            }
+        }
+        if (oldest != null && (effect.getStacking() == StatusEffect.Stacking.REFRESH || stacks >= effect.getMaxStacks())) {
+            // Refreshing keeps the stat unchanged; the stack simply moves to the back of the queue.
+            statuses.remove(oldest);
+            statuses.add(oldest);
+            wheel.reschedule(oldest.timer, effect.getDurationRounds());
+            return;
+        }
+        Active active = new Active(target, effect);
+        active.timer = wheel.schedule(active, effect.getDurationRounds());
+        statuses.add(active);
+        target.refreshStatusFactors();
+    }
+
+    /**
+     * Advances the clock one round and lifts every effect whose duration ran out.
+     */
+    public void endRound() {
+        wheel.advance(expire);
+    }
+
+    public int activeCount() {
+        return wheel.pending();
+    }
+
+    /**
+     * Lifts every effect still active, restoring the monsters' stats.
+     */
+    public void clear() {
+        wheel.clear(expire);
+    }
+
+    private void expire(Active active) {
+        List<Active> statuses = active.target.statuses();
+        statuses.remove(active);
+        active.target.refreshStatusFactors();
+    }
+}
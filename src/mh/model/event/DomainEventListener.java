@@ -0,0 +1,24 @@
+package mh.model.event;
+
+import mh.items.Item;
+import mh.items.Potion;
+import mh.model.Hero;
+
+/**
+ * Receives typed domain events published by the model layer.
+ * Every callback defaults to a no-op, so headless runs can ignore events without formatting any text.
+ */
+public interface DomainEventListener {
+    DomainEventListener NO_OP = new DomainEventListener() {};
+
+    default void onLevelUp(Hero hero, int newLevel) {}
+
+    /**
+     * @param effect the amount actually gained (HP healed, MP restored, or stat points added)
+     */
+    default void onPotionApplied(Hero hero, Potion potion, double effect) {}
+
+    default void onItemBroke(Hero hero, Item item) {}
+
+    default void onEquipRejected(Hero hero, Item item, EquipRejection reason) {}
+}
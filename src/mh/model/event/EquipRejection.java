@@ -0,0 +1,6 @@
+package mh.model.event;
+
+public enum EquipRejection {
+    LEVEL_TOO_LOW,
+    NO_DURABILITY
+}
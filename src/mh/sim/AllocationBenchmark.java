@@ -0,0 +1,117 @@
+package mh.sim;
+
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import mh.battle.BattleResult;
+import mh.battle.policy.HeroActionPolicies;
+import mh.battle.policy.HeroActionPolicy;
+import mh.battle.strategy.PolicyBattleStrategy;
+import mh.items.Armor;
+import mh.items.Weapon;
+import mh.model.Hero;
+import mh.model.Hero.HeroClass;
+import mh.model.Monster;
+import mh.model.MonsterType;
+
+/**
+ * Measures heap allocation of headless battles with the JVM's per-thread allocation counter.
+ *
+ * <p>Participants are spawned outside the measured region. Each battle's allocated bytes are
+ * regressed against its round count: the intercept is the fixed per-battle setup (result object,
+ * roster copy, seeded RNG, rewards) and the slope is the cost of one more round, which should be zero.
+ * Run with {@code java mh.sim.AllocationBenchmark [battles]}; exits non-zero if rounds allocate.</p>
+ */
+public final class AllocationBenchmark {
+    private static final int WARMUP_BATTLES = 20_000;
+
+    private AllocationBenchmark() {
+    }
+
+    public static void main(String[] args) {
+        int battles = args.length > 0 ? Integer.parseInt(args[0]) : 20_000;
+        com.sun.management.ThreadMXBean threads =
+                (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        if (!threads.isThreadAllocatedMemorySupported()) {
+            System.out.println("Per-thread allocation accounting is not supported by this JVM.");
+            return;
+        }
+        threads.setThreadAllocatedMemoryEnabled(true);
+        HeroActionPolicy policy = HeroActionPolicies.attackFirst();
+        run(threads, policy, WARMUP_BATTLES, 1);
+        double[] fit = run(threads, policy, battles, 2);
+        System.out.printf("%d battles, %.1f rounds on average: %.0f bytes per battle setup, %.2f bytes per round%n",
+                battles, fit[2], fit[0], fit[1]);
+        if (fit[1] > 1.0) {
+            System.exit(1);
+        }
+    }
+
+    /**
+     * Fits bytes = intercept + slope * rounds with a separate intercept for won and lost battles,
+     * since victory rewards allocate once per battle and longer battles are more often lost.
+     *
+     * @return {mean setup bytes, bytes per round, mean rounds}
+     */
+    private static double[] run(com.sun.management.ThreadMXBean threads, HeroActionPolicy policy,
+                                int battles, long seed) {
+        Random random = new Random(seed);
+        PolicyBattleStrategy strategy = new PolicyBattleStrategy(policy, random);
+        // [lost, won] x {count, sum rounds, sum bytes, sum rounds^2, sum rounds*bytes}
+        double[][] sums = new double[2][5];
+        for (int b = 0; b < battles; b++) {
+            List<Hero> party = party();
+            List<Monster> monsters = monsters(1 + b % 10);
+            long before = threads.getCurrentThreadAllocatedBytes();
+            BattleResult result = strategy.runBattle(party, monsters);
+            long bytes = threads.getCurrentThreadAllocatedBytes() - before;
+            double rounds = result.getRounds();
+            double[] group = sums[result.isHeroesWon() ? 1 : 0];
+            group[0]++;
+            group[1] += rounds;
+            group[2] += bytes;
+            group[3] += rounds * rounds;
+            group[4] += rounds * bytes;
+        }
+        double sxx = 0;
+        double sxy = 0;
+        double totalRounds = 0;
+        double totalBytes = 0;
+        for (double[] group : sums) {
+            if (group[0] == 0) {
+                continue;
+            }
+            sxx += group[3] - group[1] * group[1] / group[0];
+            sxy += group[4] - group[1] * group[2] / group[0];
+            totalRounds += group[1];
+            totalBytes += group[2];
+        }
+        double slope = sxx > 0 ? sxy / sxx : 0;
+        double meanRounds = totalRounds / battles;
+        return new double[] {totalBytes / battles - slope * meanRounds, slope, meanRounds};
+    }
+
+    private static List<Hero> party() {
+        List<Hero> party = new ArrayList<>();
+        HeroClass[] classes = HeroClass.values();
+        for (int i = 0; i < classes.length; i++) {
+            Hero hero = new Hero("Hero" + i, 300, 600, 500, 500, 0, 0, classes[i]);
+            hero.equipWeapon(new Weapon("Sword", 0, 1, 60, 1));
+            hero.equipArmor(new Armor("Mail", 0, 1, 100));
+            party.add(hero);
+        }
+        return party;
+    }
+
+    // Monster HP grows with level, so levels 1-10 spread battles over a wide range of round counts.
+    private static List<Monster> monsters(int level) {
+        List<Monster> monsters = new ArrayList<>();
+        MonsterType[] types = MonsterType.values();
+        for (int i = 0; i < types.length; i++) {
+            monsters.add(new Monster("Monster" + i, level, 20, 30, 20, types[i]));
+        }
+        return monsters;
+    }
+}
@@ -0,0 +1,190 @@
+package mh.sim;
+
+import java.util.SplittableRandom;
+
+import mh.model.Creature;
+import mh.model.Hero;
+import mh.model.Monster;
+
+/**
+ * Attack-only battle loop over a {@link CombatArrays} snapshot, for balance sweeps that need
+ * millions of fights.
+ *
+ * <p>Resolves turns exactly like {@link mh.battle.strategy.PolicyBattleStrategy} with the
+ * attack-only policies: heroes in party order against a {@link TargetRule} target, then each
+ * standing monster against a uniformly random standing hero, with the same dodge, crit,
+ * mitigation and durability rules as {@code Hero.attack}/{@code Monster.attack}. Draws come from a
+ * {@link SplittableRandom}, so individual battles differ from the object engine but the outcome
+ * distribution is the same. Nothing is allocated per battle.</p>
+ */
+public class BatchCombatKernel {
+    private static final int DEFAULT_MAX_ROUNDS = 1000;
+
+    private final TargetRule targetRule;
+    private final int maxRounds;
+
+    public BatchCombatKernel() {
+        this(TargetRule.FIRST_ALIVE, DEFAULT_MAX_ROUNDS);
+    }
+
+    /**
+     * @param maxRounds safety cap; a battle still running after this many rounds counts as a defeat
+     */
+    public BatchCombatKernel(TargetRule targetRule, int maxRounds) {
+        this.targetRule = targetRule;
+        this.maxRounds = maxRounds;
+    }
+
+    public SimulationReport simulate(BattleScenario scenario, int battles, long seed) {
+        return run(CombatArrays.of(scenario.spawnParty(), scenario.spawnMonsters()), battles, seed);
+    }
+
+    /**
+     * Runs {@code battles} fights from the snapshot's starting state; the snapshot is left holding
+     * the final state of the last one.
+     */
+    public SimulationReport run(CombatArrays state, int battles, long seed) {
+        if (battles <= 0) {
+            throw new IllegalArgumentException("battles must be positive");
+        }
+        SplittableRandom rng = new SplittableRandom(seed);
+        int[] standing = new int[state.heroCount];
+        BattleTally tally = new BattleTally();
+        for (int b = 0; b < battles; b++) {
+            state.reset();
+            int rounds = fight(state, rng, standing);
+            tally.add(sideStanding(state, state.heroCount, state.size) == 0, rounds, heroHpRemaining(state));
+        }
+        return tally.toReport();
+    }
+
+    /**
+     * Fights one battle in place from the snapshot's current state.
+     *
+     * @return the number of rounds fought
+     */
+    public int fight(CombatArrays state, SplittableRandom rng) {
+        return fight(state, rng, new int[state.heroCount]);
+    }
+
+    private int fight(CombatArrays s, SplittableRandom rng, int[] standing) {
+        final int heroCount = s.heroCount;
+        final int size = s.size;
+        final double[] hp = s.hp;
+        final double[] damage = s.damage;
+        final double[] defense = s.defense;
+        final double[] dodge = s.dodge;
+        final int[] flags = s.flags;
+        int heroesUp = sideStanding(s, 0, heroCount);
+        int monstersUp = sideStanding(s, heroCount, size);
+        int rounds = 0;
+        while (heroesUp > 0 && monstersUp > 0 && rounds < maxRounds) {
+            rounds++;
+            for (int h = 0; h < heroCount && monstersUp > 0; h++) {
+                if (hp[h] <= 0) {
+                    continue;
+                }
+                int target = pickMonster(hp, heroCount, size);
+                if (rng.nextDouble() < dodge[target]) {
+                    continue;
+                }
+                double raw = damage[h];
+                if (rng.nextDouble() < Hero.HERO_CRIT_CHANCE) {
+                    raw *= 2;
+                }
+                hp[target] = Math.max(0, hp[target] - Creature.mitigate(raw, defense[target]));
+                if (hp[target] <= 0) {
+                    monstersUp--;
+                }
+                if ((flags[h] & CombatArrays.ARMED) != 0 && wear(s.weaponUses, h)) {
+                    flags[h] &= ~CombatArrays.ARMED;
+                    damage[h] = s.unarmedDamage[h];
+                }
+            }
+            if (monstersUp == 0) {
+                break;
+            }
+            for (int m = heroCount; m < size; m++) {
+                if (hp[m] <= 0) {
+                    continue;
+                }
+                int count = 0;
+                for (int h = 0; h < heroCount; h++) {
+                    if (hp[h] > 0) {
+                        standing[count++] = h;
+                    }
+                }
+                if (count == 0) {
+                    break;
+                }
+                int target = standing[rng.nextInt(count)];
+                if (rng.nextDouble() < dodge[target]) {
+                    continue;
+                }
+                double raw = damage[m];
+                if (rng.nextDouble() < Monster.MONSTER_CRIT_CHANCE) {
+                    raw *= 2;
+                }
+                double applied = Math.min(Creature.mitigate(raw, defense[target]), hp[target]);
+                hp[target] -= applied;
+                if (hp[target] <= 0) {
+                    heroesUp--;
+                }
+                if (applied > 0 && (flags[target] & CombatArrays.ARMORED) != 0 && wear(s.armorUses, target)) {
+                    flags[target] &= ~CombatArrays.ARMORED;
+                    defense[target] = 0;
+                }
+            }
+        }
+        return rounds;
+    }
+
+    private int pickMonster(double[] hp, int from, int to) {
+        int best = -1;
+        for (int i = from; i < to; i++) {
+            if (hp[i] <= 0) {
+                continue;
+            }
+            if (targetRule == TargetRule.FIRST_ALIVE) {
+                return i;
+            }
+            if (best < 0 || hp[i] < hp[best]) {
+                best = i;
+            }
+        }
+        return best;
+    }
+
+    /**
+     * Consumes one use, mirroring {@code Item.consumeUse}; returns true when the item just broke.
+     */
+    private static boolean wear(int[] uses, int slot) {
+        if (uses[slot] == Integer.MAX_VALUE) {
+            return false;
+        }
+        if (uses[slot] > 0) {
+            uses[slot]--;
+        }
+        return uses[slot] == 0;
+    }
+
+    private static int sideStanding(CombatArrays s, int from, int to) {
+        int standing = 0;
+        for (int i = from; i < to; i++) {
+            if (s.hp[i] > 0) {
+                standing++;
+            }
+        }
+        return standing;
+    }
+
+    private static double heroHpRemaining(CombatArrays s) {
+        double total = 0;
+        for (int h = 0; h < s.heroCount; h++) {
+            if (s.hp[h] > 0) {
+                total += s.hp[h];
+            }
+        }
+        return total;
+    }
+}
@@ -0,0 +1,68 @@
+package mh.sim;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import mh.model.Hero;
+import mh.model.HeroTemplate;
+import mh.model.Monster;
+import mh.model.MonsterTemplate;
+
+/**
+ * A party composition and monster set, given as {@link mh.data.GameData} templates. Every battle
+ * spawns its own heroes and monsters from them, so nothing a battle touches is shared.
+ */
+public class BattleScenario {
+    private final List<HeroTemplate> heroTemplates;
+    private final List<MonsterTemplate> monsterTemplates;
+    private final int monsterLevel;
+
+    /**
+     * Monsters scale to the party's highest level, the same way legacy encounters do.
+     */
+    public BattleScenario(List<HeroTemplate> heroTemplates, List<MonsterTemplate> monsterTemplates) {
+        this(heroTemplates, monsterTemplates, 0);
+    }
+
+    /**
+     * @param monsterLevel level to scale monsters to; 0 or less means the party's highest level
+     */
+    public BattleScenario(List<HeroTemplate> heroTemplates, List<MonsterTemplate> monsterTemplates, int monsterLevel) {
+        if (heroTemplates.isEmpty() || monsterTemplates.isEmpty()) {
+            throw new IllegalArgumentException("A scenario needs at least one hero and one monster");
+        }
+        this.heroTemplates = Collections.unmodifiableList(new ArrayList<>(heroTemplates));
+        this.monsterTemplates = Collections.unmodifiableList(new ArrayList<>(monsterTemplates));
+        this.monsterLevel = monsterLevel > 0 ? monsterLevel
+                : heroTemplates.stream().mapToInt(HeroTemplate::getLevel).max().orElse(1);
+    }
+
+    public List<HeroTemplate> getHeroTemplates() {
+        return heroTemplates;
+    }
+
+    public List<MonsterTemplate> getMonsterTemplates() {
+        return monsterTemplates;
+    }
+
+    public int getMonsterLevel() {
+        return monsterLevel;
+    }
+
+    public List<Hero> spawnParty() {
+        List<Hero> party = new ArrayList<>(heroTemplates.size());
+        for (HeroTemplate template : heroTemplates) {
+            party.add(template.newHero());
+        }
+        return party;
+    }
+
+    public List<Monster> spawnMonsters() {
+        List<Monster> monsters = new ArrayList<>(monsterTemplates.size());
+        for (MonsterTemplate template : monsterTemplates) {
+            monsters.add(template.spawn(monsterLevel));
+        }
+        return monsters;
+    }
+}
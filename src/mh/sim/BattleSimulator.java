@@ -0,0 +1,88 @@
+package mh.sim;
+
+import java.util.List;
+import java.util.Random;
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+import mh.battle.BattleResult;
+import mh.battle.policy.HeroActionPolicy;
+import mh.battle.strategy.PolicyBattleStrategy;
+import mh.model.Hero;
+import mh.model.Monster;
+
+/**
+ * Monte Carlo estimator that runs independent headless battles across a fork/join pool.
+ *
+ * <p>The battle range is split into a fixed task tree whose shape depends only on the battle
+ * count, and every split derives child RNG streams with {@link SplittableRandom#split()}.
+ * Tallies are merged in tree order, so a given master seed yields identical reports no matter
+ * how many threads execute the tree.</p>
+ */
+public class BattleSimulator {
+    private static final int LEAF_SIZE = 256;
+
+    private final HeroActionPolicy policy;
+    private final ForkJoinPool pool;
+
+    public BattleSimulator(HeroActionPolicy policy) {
+        this(policy, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * @param policy must be safe to share across threads (the built-in policies are stateless)
+     */
+    public BattleSimulator(HeroActionPolicy policy, ForkJoinPool pool) {
+        this.policy = policy;
+        this.pool = pool;
+    }
+
+    public SimulationReport simulate(BattleScenario scenario, int battles, long masterSeed) {
+        if (battles <= 0) {
+            throw new IllegalArgumentException("battles must be positive");
+        }
+        BattleTally tally = pool.invoke(new BattleTask(scenario, 0, battles, new SplittableRandom(masterSeed)));
+        return tally.toReport();
+    }
+
+    private final class BattleTask extends RecursiveTask<BattleTally> {
+        private static final long serialVersionUID = 1L;
+
+        private final BattleScenario scenario;
+        private final int from;
+        private final int to;
+        private final SplittableRandom rng;
+
+        BattleTask(BattleScenario scenario, int from, int to, SplittableRandom rng) {
+            this.scenario = scenario;
+            this.from = from;
+            this.to = to;
+            this.rng = rng;
+        }
+
+        @Override
+        protected BattleTally compute() {
+            if (to - from <= LEAF_SIZE) {
+                return runLeaf();
+            }
+            int mid = (from + to) >>> 1;
+            BattleTask left = new BattleTask(scenario, from, mid, rng.split());
+            BattleTask right = new BattleTask(scenario, mid, to, rng.split());
+            left.fork();
+            BattleTally rightBattleTally = right.compute();
+            return left.join().merge(rightBattleTally);
+        }
+
+        private BattleTally runLeaf() {
+            BattleTally tally = new BattleTally();
+            for (int i = from; i < to; i++) {
+                PolicyBattleStrategy strategy = new PolicyBattleStrategy(policy, new Random(rng.nextLong()));
+                List<Hero> party = scenario.spawnParty();
+                List<Monster> monsters = scenario.spawnMonsters();
+                tally.add(strategy.runBattle(party, monsters));
+            }
+            return tally;
+        }
+    }
+}
@@ -0,0 +1,55 @@
+package mh.sim;
+
+import mh.battle.BattleResult;
+
+/**
+ * Running sums for a {@link SimulationReport}; tallies from independent workers merge in any fixed order.
+ */
+final class BattleTally {
+    private int battles;
+    private int wins;
+    private double roundsSum;
+    private double roundsSumSq;
+    private double hpSum;
+    private double hpSumSq;
+
+    void add(BattleResult result) {
+        add(result.isHeroesWon(), result.getRounds(), result.getHeroHpRemaining());
+    }
+
+    void add(boolean heroesWon, int rounds, double heroHpRemaining) {
+        battles++;
+        if (heroesWon) {
+            wins++;
+        }
+        roundsSum += rounds;
+        roundsSumSq += (double) rounds * rounds;
+        hpSum += heroHpRemaining;
+        hpSumSq += heroHpRemaining * heroHpRemaining;
+    }
+
+    BattleTally merge(BattleTally other) {
+        battles += other.battles;
+        wins += other.wins;
+        roundsSum += other.roundsSum;
+        roundsSumSq += other.roundsSumSq;
+        hpSum += other.hpSum;
+        hpSumSq += other.hpSumSq;
+        return this;
+    }
+
+    SimulationReport toReport() {
+        double meanRounds = roundsSum / battles;
+        double meanHp = hpSum / battles;
+        return new SimulationReport(battles, wins, meanRounds, stdDev(roundsSumSq, meanRounds),
+                meanHp, stdDev(hpSumSq, meanHp));
+    }
+
+    private double stdDev(double sumSq, double mean) {
+        if (battles < 2) {
+            return 0;
+        }
+        double variance = (sumSq - battles * mean * mean) / (battles - 1);
+        return Math.sqrt(Math.max(0, variance));
+    }
+}
@@ -0,0 +1,183 @@
+package mh.sim;
+
+import java.util.List;
+
+import mh.items.Armor;
+import mh.items.Item;
+import mh.items.Weapon;
+import mh.model.CombatArithmetics;
+import mh.model.Hero;
+import mh.model.Monster;
+
+/**
+ * Struct-of-arrays snapshot of one battle's participants for {@link BatchCombatKernel}.
+ *
+ * <p>Heroes occupy slots {@code [0, heroCount)} and monsters the rest. Everything the attack
+ * formulas read lives in parallel primitive arrays, so a battle touches a few contiguous cache
+ * lines instead of chasing creature, inventory and item references. The starting values are kept
+ * aside and {@link #reset()} restores them, letting one instance serve any number of battles.</p>
+ */
+public final class CombatArrays {
+    static final int HERO = 1;
+    static final int ARMED = 1 << 1;
+    static final int ARMORED = 1 << 2;
+
+    final int heroCount;
+    final int size;
+
+    final double[] hp;
+    final double[] maxHp;
+    // raw attack damage before crits and mitigation; for heroes, with the current weapon
+    final double[] damage;
+    // hero damage once the weapon breaks
+    final double[] unarmedDamage;
+    // monster defense, or hero armor reduction while the armor lasts
+    final double[] defense;
+    final double[] dodge;
+    final int[] level;
+    final int[] flags;
+    final int[] weaponUses;
+    final int[] armorUses;
+
+    private final double[] startHp;
+    private final double[] startDamage;
+    private final double[] startDefense;
+    private final int[] startFlags;
+    private final int[] startWeaponUses;
+    private final int[] startArmorUses;
+
+    private CombatArrays(int heroCount, int size) {
+        this.heroCount = heroCount;
+        this.size = size;
+        hp = new double[size];
+        maxHp = new double[size];
+        damage = new double[size];
+        unarmedDamage = new double[size];
+        defense = new double[size];
+        dodge = new double[size];
+        level = new int[size];
+        flags = new int[size];
+        weaponUses = new int[size];
+        armorUses = new int[size];
+        startHp = new double[size];
+        startDamage = new double[size];
+        startDefense = new double[size];
+        startFlags = new int[size];
+        startWeaponUses = new int[size];
+        startArmorUses = new int[size];
+    }
+
+    /**
+     * Captures the participants as a battle would see them after {@code prepareForBattle}.
+     */
+    public static CombatArrays of(List<Hero> heroes, List<Monster> monsters) {
+        CombatArrays arrays = new CombatArrays(heroes.size(), heroes.size() + monsters.size());
+        for (int i = 0; i < heroes.size(); i++) {
+            Hero hero = heroes.get(i);
+            arrays.hp[i] = Math.min(hero.getHp(), hero.getBaseMaxHp());
+            arrays.maxHp[i] = hero.getBaseMaxHp();
+            arrays.damage[i] = hero.attackDamage();
+            // Hero.attackDamage with no weapon equipped, in the active arithmetic mode.
+            arrays.unarmedDamage[i] = CombatArithmetics.current().heroAttackDamage(hero.getStrength(), 0);
+            arrays.dodge[i] = hero.getDodgeChance();
+            arrays.level[i] = hero.getLevel();
+            int flags = HERO;
+            Weapon weapon = hero.getEquippedWeapon();
+            if (weapon != null) {
+                flags |= ARMED;
+                arrays.weaponUses[i] = weapon.getUsesRemaining();
+            }
+            Armor armor = hero.getEquippedArmor();
+            if (armor != null) {
+                flags |= ARMORED;
+                arrays.defense[i] = armor.getDamageReduction();
+                arrays.armorUses[i] = armor.getUsesRemaining();
+            }
+            arrays.flags[i] = flags;
+        }
+        for (int m = 0; m < monsters.size(); m++) {
+            Monster monster = monsters.get(m);
+            int i = heroes.size() + m;
+            arrays.hp[i] = monster.getHp();
+            arrays.maxHp[i] = monster.getMaxHp();
+            arrays.damage[i] = monster.attackDamage();
+            arrays.unarmedDamage[i] = arrays.damage[i];
+            arrays.defense[i] = monster.getDefense();
+            arrays.dodge[i] = monster.getDodgeChance();
+            arrays.level[i] = monster.getLevel();
+        }
+        System.arraycopy(arrays.hp, 0, arrays.startHp, 0, arrays.size);
+        System.arraycopy(arrays.damage, 0, arrays.startDamage, 0, arrays.size);
+        System.arraycopy(arrays.defense, 0, arrays.startDefense, 0, arrays.size);
+        System.arraycopy(arrays.flags, 0, arrays.startFlags, 0, arrays.size);
+        System.arraycopy(arrays.weaponUses, 0, arrays.startWeaponUses, 0, arrays.size);
+        System.arraycopy(arrays.armorUses, 0, arrays.startArmorUses, 0, arrays.size);
+        return arrays;
+    }
+
+    /**
+     * Restores the state captured by {@link #of}.
+     */
+    public void reset() {
+        System.arraycopy(startHp, 0, hp, 0, size);
+        System.arraycopy(startDamage, 0, damage, 0, size);
+        System.arraycopy(startDefense, 0, defense, 0, size);
+        System.arraycopy(startFlags, 0, flags, 0, size);
+        System.arraycopy(startWeaponUses, 0, weaponUses, 0, size);
+        System.arraycopy(startArmorUses, 0, armorUses, 0, size);
+    }
+
+    /**
+     * Applies the current HP and gear wear to the objects this snapshot was built from.
+     * Gear worn out in the arrays breaks on the hero too, publishing the usual breakage event.
+     */
+    public void writeBack(List<Hero> heroes, List<Monster> monsters) {
+        for (int i = 0; i < heroes.size(); i++) {
+            Hero hero = heroes.get(i);
+            hero.takeDamage(hero.getHp() - hp[i]);
+            if ((startFlags[i] & ARMED) != 0) {
+                wearOut(hero, hero.getEquippedWeapon(), weaponUses[i], true);
+            }
+            if ((startFlags[i] & ARMORED) != 0) {
+                wearOut(hero, hero.getEquippedArmor(), armorUses[i], false);
+            }
+        }
+        for (int m = 0; m < monsters.size(); m++) {
+            Monster monster = monsters.get(m);
+            monster.takeDamage(monster.getHp() - hp[heroCount + m]);
+        }
+    }
+
+    private static void wearOut(Hero hero, Item item, int usesRemaining, boolean weapon) {
+        if (item == null) {
+            return;
+        }
+        if (usesRemaining > 0) {
+            item.restoreDurability(usesRemaining);
+            return;
+        }
+        // Leave the final use to the hero so it unequips the item exactly as a live battle would.
+        item.restoreDurability(1);
+        if (weapon) {
+            hero.tickWeaponDurability();
+        } else {
+            hero.tickArmorDurability();
+        }
+    }
+
+    public int getHeroCount() {
+        return heroCount;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public double getHp(int slot) {
+        return hp[slot];
+    }
+
+    public boolean isHero(int slot) {
+        return (flags[slot] & HERO) != 0;
+    }
+}
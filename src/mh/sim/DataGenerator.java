@@ -0,0 +1,154 @@
+package mh.sim;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Random;
+
+/**
+ * Writes a complete, synthetic data directory in the shipped column formats, for exercising the
+ * loader, catalog and index on catalogs far larger than the real one.
+ *
+ * <p>Monster, weapon and spell counts are arguments (spells are split across the three schools);
+ * heroes, armor and potions get a few dozen records each. Names are unique and values are drawn
+ * from roughly the ranges of the shipped files, from a seeded {@link Random}, so a given command
+ * line always writes the same bytes. Records are streamed to disk, so millions of them cost no
+ * more memory than a handful. Run with
+ * {@code java mh.sim.DataGenerator <outDir> [monsters] [weapons] [spells] [seed]}.</p>
+ */
+public final class DataGenerator {
+    private static final String HERO_HEADER =
+            "Name/mana/strength/agility/dexterity/starting money/starting experience";
+    private static final String MONSTER_HEADER = "Name/level/damage/defense/dodge chance";
+    private static final String SPELL_HEADER = "Name/cost/required level/damage/mana cost";
+    private static final String[] POTION_ATTRIBUTES = {
+            "Health", "Mana", "Strength", "Dexterity", "Agility", "Health/Mana/Strength/Agility"
+    };
+    private static final int SMALL_FILE_RECORDS = 30;
+
+    private DataGenerator() {
+    }
+
+    public static void main(String[] args) throws IOException {
+        if (args.length < 1) {
+            System.err.println("usage: java mh.sim.DataGenerator <outDir> [monsters] [weapons] [spells] [seed]");
+            System.exit(2);
+        }
+        Path dir = Paths.get(args[0]);
+        int monsters = args.length > 1 ? Integer.parseInt(args[1]) : 1_000_000;
+        int weapons = args.length > 2 ? Integer.parseInt(args[2]) : 100_000;
+        int spells = args.length > 3 ? Integer.parseInt(args[3]) : 100_000;
+        long seed = args.length > 4 ? Long.parseLong(args[4]) : 1L;
+        Files.createDirectories(dir);
+
+        long start = System.nanoTime();
+        Random random = new Random(seed);
+        writeHeroes(dir.resolve("Warriors.txt"), "Warrior", random);
+        writeHeroes(dir.resolve("Sorcerers.txt"), "Sorcerer", random);
+        writeHeroes(dir.resolve("Paladins.txt"), "Paladin", random);
+        writeMonsters(dir.resolve("Dragons.txt"), "Dragon", share(monsters, 3, 0), random);
+        writeMonsters(dir.resolve("Exoskeletons.txt"), "Exoskeleton", share(monsters, 3, 1), random);
+        writeMonsters(dir.resolve("Spirits.txt"), "Spirit", share(monsters, 3, 2), random);
+        writeWeapons(dir.resolve("Weaponry.txt"), weapons, random);
+        writeArmor(dir.resolve("Armory.txt"), random);
+        writePotions(dir.resolve("Potions.txt"), random);
+        writeSpells(dir.resolve("FireSpells.txt"), "Fire", share(spells, 3, 0), random);
+        writeSpells(dir.resolve("IceSpells.txt"), "Ice", share(spells, 3, 1), random);
+        writeSpells(dir.resolve("LightningSpells.txt"), "Lightning", share(spells, 3, 2), random);
+        System.out.printf("wrote %,d monsters, %,d weapons and %,d spells to %s in %.1f s%n",
+                monsters, weapons, spells, dir, (System.nanoTime() - start) / 1e9);
+    }
+
+    // Splits total into parts that differ by at most one, earlier parts taking the remainder.
+    private static int share(int total, int parts, int part) {
+        return total / parts + (part < total % parts ? 1 : 0);
+    }
+
+    private static void writeHeroes(Path file, String prefix, Random random) throws IOException {
+        try (Writer out = open(file, HERO_HEADER)) {
+            for (int i = 0; i < SMALL_FILE_RECORDS; i++) {
+                line(out, name(prefix, i),
+                        between(random, 100, 1300), between(random, 600, 900), between(random, 400, 900),
+                        between(random, 500, 900), between(random, 1300, 2600), between(random, 5, 9));
+            }
+        }
+    }
+
+    private static void writeMonsters(Path file, String prefix, int count, Random random) throws IOException {
+        try (Writer out = open(file, MONSTER_HEADER)) {
+            for (int i = 0; i < count; i++) {
+                int level = between(random, 1, 10);
+                line(out, name(prefix, i), level, 100 * level + between(random, 0, 300),
+                        100 * level + between(random, 0, 400), between(random, 10, 75));
+            }
+        }
+    }
+
+    private static void writeWeapons(Path file, int count, Random random) throws IOException {
+        try (Writer out = open(file, "Name/cost/level/damage/required hands")) {
+            for (int i = 0; i < count; i++) {
+                int level = between(random, 1, 10);
+                line(out, name("Weapon", i), 100 * level + 50 * between(random, 0, 6), level,
+                        300 + 100 * level + between(random, 0, 400), between(random, 1, 2));
+            }
+        }
+    }
+
+    private static void writeArmor(Path file, Random random) throws IOException {
+        try (Writer out = open(file, "Name/cost/required level/damage reduction")) {
+            for (int i = 0; i < SMALL_FILE_RECORDS; i++) {
+                int level = between(random, 1, 10);
+                line(out, name("Armor", i), 100 * level + 50 * between(random, 0, 6), level,
+                        100 * level + between(random, 0, 500));
+            }
+        }
+    }
+
+    private static void writePotions(Path file, Random random) throws IOException {
+        try (Writer out = open(file, "Name/cost/required level/attribute increase/attribute affected")) {
+            for (int i = 0; i < SMALL_FILE_RECORDS; i++) {
+                int level = between(random, 1, 8);
+                line(out, name("Potion", i), 100 + 50 * level, level, 25 * between(random, 2, 6),
+                        POTION_ATTRIBUTES[random.nextInt(POTION_ATTRIBUTES.length)]);
+            }
+        }
+    }
+
+    private static void writeSpells(Path file, String prefix, int count, Random random) throws IOException {
+        try (Writer out = open(file, SPELL_HEADER)) {
+            for (int i = 0; i < count; i++) {
+                int level = between(random, 1, 10);
+                line(out, name(prefix, i), 150 + 100 * level + between(random, 0, 200), level,
+                        350 + 100 * level + between(random, 0, 300), 50 + 50 * between(random, 1, level));
+            }
+        }
+    }
+
+    private static Writer open(Path file, String header) throws IOException {
+        BufferedWriter out = Files.newBufferedWriter(file, StandardCharsets.UTF_8);
+        out.write(header);
+        out.write('\n');
+        return out;
+    }
+
+    private static String name(String prefix, int index) {
+        return String.format("%s_%07d", prefix, index);
+    }
+
+    private static int between(Random random, int low, int high) {
+        return low + random.nextInt(high - low + 1);
+    }
+
+    private static void line(Writer out, String name, Object... columns) throws IOException {
+        out.write(name);
+        for (Object column : columns) {
+            out.write('\t');
+            out.write(String.valueOf(column));
+        }
+        out.write('\n');
+    }
+}
@@ -0,0 +1,131 @@
+package mh.sim;
+
+import java.io.IOException;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.TreeMap;
+
+import mh.data.DataLoader;
+import mh.data.GameData;
+import mh.model.EncounterTable;
+import mh.model.EncounterWeights;
+import mh.model.MonsterTemplate;
+import mh.model.MonsterType;
+
+/**
+ * Checks and times {@link EncounterTable} against the per-encounter pool it replaces.
+ *
+ * <p>With uniform weights the table must pick exactly the template the old code picked from the same
+ * seed. With type and level-band weights, observed frequencies must match the weights to within a few
+ * standard errors. Timing compares building the pool and picking uniformly on every draw with a table
+ * draw. Point it at a {@link DataGenerator} directory for a large catalog; run with
+ * {@code java mh.sim.EncounterBenchmark [dataDir] [draws]}, which exits non-zero on a failed check.</p>
+ */
+public final class EncounterBenchmark {
+    private static final int PARTY_LEVEL = 4;
+
+    private EncounterBenchmark() {
+    }
+
+    public static void main(String[] args) throws IOException {
+        GameData data = new DataLoader(Paths.get(args.length > 0 ? args[0] : ".")).load();
+        int draws = args.length > 1 ? Integer.parseInt(args[1]) : 1_000_000;
+        boolean ok = sameAsPool(data, draws) & matchesWeights(data, draws);
+        time(data, draws);
+        if (!ok) {
+            System.exit(1);
+        }
+    }
+
+    private static boolean sameAsPool(GameData data, int draws) {
+        EncounterTable table = data.getEncounterTable(EncounterWeights.UNIFORM);
+        Random old = new Random(11);
+        Random sampled = new Random(11);
+        List<MonsterTemplate> pool = pool(data);
+        int mismatches = 0;
+        for (int i = 0; i < draws; i++) {
+            if (pool.get(old.nextInt(pool.size())) != table.draw(1 + i % 10, sampled)) {
+                mismatches++;
+            }
+        }
+        System.out.printf("uniform: %d templates, %d mismatches against the old pick%n", table.size(), mismatches);
+        return mismatches == 0;
+    }
+
+    private static boolean matchesWeights(GameData data, int draws) {
+        Map<MonsterType, Double> types = new EnumMap<>(MonsterType.class);
+        types.put(MonsterType.DRAGON, 3.0);
+        types.put(MonsterType.SPIRIT, 0.5);
+        EncounterWeights weights = EncounterWeights.byTypeAndBand(types, 4, 2, 1, 0);
+        EncounterTable table = data.getEncounterTable(weights);
+
+        List<MonsterTemplate> monsters = data.getIndex().getMonsters();
+        Map<MonsterTemplate, Integer> seen = new IdentityHashMap<>();
+        Random random = new Random(5);
+        for (int i = 0; i < draws; i++) {
+            seen.merge(table.draw(PARTY_LEVEL, random), 1, Integer::sum);
+        }
+        double total = 0;
+        for (MonsterTemplate monster : monsters) {
+            total += weights.weight(monster, PARTY_LEVEL);
+        }
+        // Compare per type and band so large catalogs still get enough draws per cell.
+        Map<String, double[]> cells = new TreeMap<>();
+        for (MonsterTemplate monster : monsters) {
+            String cell = monster.getMonsterType() + " d" + Math.min(3, Math.abs(monster.getLevel() - PARTY_LEVEL));
+            double[] expectedAndSeen = cells.computeIfAbsent(cell, k -> new double[2]);
+            expectedAndSeen[0] += weights.weight(monster, PARTY_LEVEL) / total;
+            expectedAndSeen[1] += seen.getOrDefault(monster, 0);
+        }
+        boolean ok = true;
+        for (Map.Entry<String, double[]> cell : cells.entrySet()) {
+            double p = cell.getValue()[0];
+            double observed = cell.getValue()[1] / draws;
+            double error = Math.sqrt(p * (1 - p) / draws);
+            boolean close = p == 0 ? observed == 0 : Math.abs(observed - p) <= 5 * error;
+            ok &= close;
+            System.out.printf("  %-15s expected %.4f observed %.4f%s%n", cell.getKey(), p, observed, close ? "" : "  <-- off");
+        }
+        System.out.printf("weighted: frequencies %s%n", ok ? "match" : "DO NOT match");
+        return ok;
+    }
+
+    private static void time(GameData data, int draws) {
+        EncounterTable table = data.getEncounterTable(EncounterWeights.UNIFORM);
+        long sink = 0;
+        long poolNanos = 0;
+        long tableNanos = 0;
+        int poolDraws = Math.max(1, Math.min(draws, 50_000_000 / Math.max(1, table.size())));
+        for (int pass = 0; pass < 2; pass++) {
+            Random random = new Random(pass);
+            long start = System.nanoTime();
+            for (int i = 0; i < poolDraws; i++) {
+                List<MonsterTemplate> pool = pool(data);
+                sink += pool.get(random.nextInt(pool.size())).getLevel();
+            }
+            long middle = System.nanoTime();
+            for (int i = 0; i < draws; i++) {
+                sink += table.draw(1 + (i & 7), random).getLevel();
+            }
+            long end = System.nanoTime();
+            poolNanos = middle - start;
+            tableNanos = end - middle;
+        }
+        System.out.printf("per draw: pool rebuild %.1f ns, alias table %.1f ns [%d]%n",
+                (double) poolNanos / poolDraws, (double) tableNanos / draws, sink % 10);
+    }
+
+    // What generateMonsters used to build for every encounter.
+    private static List<MonsterTemplate> pool(GameData data) {
+        List<MonsterTemplate> pool = new ArrayList<>();
+        pool.addAll(data.getDragons());
+        pool.addAll(data.getExoskeletons());
+        pool.addAll(data.getSpirits());
+        return pool;
+    }
+}
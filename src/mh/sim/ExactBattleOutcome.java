@@ -0,0 +1,43 @@
+package mh.sim;
+
+/**
+ * Exact win probability and expected length of a battle under fixed policies.
+ */
+public class ExactBattleOutcome {
+    private final double winProbability;
+    private final double expectedRounds;
+    private final int statesSolved;
+    private final double quantum;
+
+    ExactBattleOutcome(double winProbability, double expectedRounds, int statesSolved, double quantum) {
+        this.winProbability = winProbability;
+        this.expectedRounds = expectedRounds;
+        this.statesSolved = statesSolved;
+        this.quantum = quantum;
+    }
+
+    public double getWinProbability() {
+        return winProbability;
+    }
+
+    public double getExpectedRounds() {
+        return expectedRounds;
+    }
+
+    public int getStatesSolved() {
+        return statesSolved;
+    }
+
+    /**
+     * HP granularity the solver used, or 0 when states held exact HP values.
+     */
+    public double getQuantum() {
+        return quantum;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("win %.4f%%, expected rounds %.3f (%d states, %s)", winProbability * 100,
+                expectedRounds, statesSolved, quantum > 0 ? String.format("HP quantum %.2f", quantum) : "exact HP");
+    }
+}
@@ -0,0 +1,486 @@
+package mh.sim;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+
+import mh.items.Armor;
+import mh.model.Creature;
+import mh.model.Hero;
+import mh.model.Monster;
+
+/**
+ * Exact battle-outcome solver: dynamic programming over HP states with memoization.
+ *
+ * <p>Heroes always attack (choosing a target by {@link TargetRule}) and monsters strike a
+ * uniformly random standing hero, the same rules {@link mh.battle.strategy.PolicyBattleStrategy}
+ * applies with the attack-only policies. Each attack is the small probability tree from
+ * {@code Hero.attack}/{@code Monster.attack}: dodge, then crit, then armor mitigation.
+ * States are (HP vector, acting unit) pairs memoized per position in the round; a round in
+ * which every attack misses is folded in analytically, so no sampling is involved.</p>
+ *
+ * <p>By default a unit's HP takes only values it can actually reach: its starting HP minus sums of
+ * the mitigated hit and crit amounts that can land on it, which are precomputed and finite. States
+ * therefore carry the same HP the object engine would, up to floating-point rounding, and the
+ * result is exact. Large matchups (three high-level monsters and up) can reach too many distinct
+ * sums; a positive quantum then rounds every reachable HP to the nearest multiple of it (never to
+ * zero while the unit stands). Rounding to nearest keeps the bias small, but each hit can still be
+ * off by up to half a quantum, so a quantum well below the smallest hit is advisable.</p>
+ *
+ * <p>Assumes gear does not break mid-battle and spells/potions are not used.</p>
+ */
+public class ExactBattleSolver {
+    // 0 means exact reachable HP values
+    private static final double DEFAULT_QUANTUM = 0;
+    private static final int DEFAULT_MAX_STATES = 5_000_000;
+    private static final int ROUNDS_PER_PASS = 100;
+    private static final double[] WIN = {1, 0};
+    private static final double[] LOSS = {0, 0};
+
+    private final double quantum;
+    private final TargetRule targetRule;
+    private final int maxStates;
+
+    public ExactBattleSolver() {
+        this(DEFAULT_QUANTUM, TargetRule.FIRST_ALIVE, DEFAULT_MAX_STATES);
+    }
+
+    /**
+     * @param quantum 0 for exact HP values, or an HP granularity that trades precision for speed
+     * @param maxStates guard against state explosion; solving fails beyond this many memoized states
+     */
+    public ExactBattleSolver(double quantum, TargetRule targetRule, int maxStates) {
+        if (!(quantum >= 0) || Double.isInfinite(quantum)) {
+            throw new IllegalArgumentException("quantum must be zero or positive");
+        }
+        this.quantum = quantum;
+        this.targetRule = targetRule;
+        this.maxStates = maxStates;
+    }
+
+    public ExactBattleOutcome solve(BattleScenario scenario) {
+        return solve(scenario.spawnParty(), scenario.spawnMonsters());
+    }
+
+    /**
+     * Solves from the participants' current HP without modifying them.
+     */
+    public ExactBattleOutcome solve(List<Hero> heroes, List<Monster> monsters) {
+        return new Run(heroes, monsters).solve();
+    }
+
+    private interface Branch {
+        void accept(long nextState, double probability, boolean changed);
+    }
+
+    /**
+     * Unwinds a pass that reached the round limit; nothing partial has been memoized by then.
+     */
+    private static final class Deferred extends RuntimeException {
+        private static final long serialVersionUID = 1L;
+        private final long state;
+
+        Deferred(long state) {
+            super(null, null, false, false);
+            this.state = state;
+        }
+    }
+
+    private final class Run {
+        private final int heroCount;
+        private final int unitCount;
+        private final int[] startUnits;
+        private final long[] radix;
+        private final double[] dodge;
+        // [unit][level] reachable HP in ascending order; level 0 is fainted
+        private final double[][] levels;
+        // [unit][amount][level] level after taking that damage amount
+        private final int[][][] next;
+        // [attacker][defender] index of the defender's amount for a normal and a critical hit
+        private final int[][] heroHit;
+        private final int[][] heroCrit;
+        private final int[][] monsterHit;
+        private final int[][] monsterCrit;
+        private final Map<Long, double[]> startMemo = new HashMap<>();
+        // one memo per actor position inside a round
+        private final List<Map<Long, double[]>> midMemo = new ArrayList<>();
+        private int solvedStates;
+        private int depth;
+
+        Run(List<Hero> heroes, List<Monster> monsters) {
+            heroCount = heroes.size();
+            int monsterCount = monsters.size();
+            unitCount = heroCount + monsterCount;
+            if (heroCount == 0 || monsterCount == 0) {
+                throw new IllegalArgumentException("Both sides need at least one participant");
+            }
+            double[] hp = new double[unitCount];
+            dodge = new double[unitCount];
+            for (int h = 0; h < heroCount; h++) {
+                Hero hero = heroes.get(h);
+                hp[h] = Math.min(hero.getHp(), hero.getBaseMaxHp());
+                dodge[h] = hero.getDodgeChance();
+            }
+            for (int m = 0; m < monsterCount; m++) {
+                Monster monster = monsters.get(m);
+                hp[heroCount + m] = monster.getHp();
+                dodge[heroCount + m] = monster.getDodgeChance();
+            }
+            double[][] heroDamage = new double[heroCount][monsterCount];
+            double[][] heroCritDamage = new double[heroCount][monsterCount];
+            for (int h = 0; h < heroCount; h++) {
+                double raw = heroes.get(h).attackDamage();
+                for (int m = 0; m < monsterCount; m++) {
+                    double defense = monsters.get(m).getDefense();
+                    heroDamage[h][m] = Creature.mitigate(raw, defense);
+                    heroCritDamage[h][m] = Creature.mitigate(raw * 2, defense);
+                }
+            }
+            double[][] monsterDamage = new double[monsterCount][heroCount];
+            double[][] monsterCritDamage = new double[monsterCount][heroCount];
+            for (int m = 0; m < monsterCount; m++) {
+                double raw = monsters.get(m).attackDamage();
+                for (int h = 0; h < heroCount; h++) {
+                    Armor armor = heroes.get(h).getEquippedArmor();
+                    double reduction = armor != null ? armor.getDamageReduction() : 0;
+                    monsterDamage[m][h] = Creature.mitigate(raw, reduction);
+                    monsterCritDamage[m][h] = Creature.mitigate(raw * 2, reduction);
+                }
+            }
+            heroHit = new int[heroCount][monsterCount];
+            heroCrit = new int[heroCount][monsterCount];
+            monsterHit = new int[monsterCount][heroCount];
+            monsterCrit = new int[monsterCount][heroCount];
+            levels = new double[unitCount][];
+            next = new int[unitCount][][];
+            startUnits = new int[unitCount];
+            radix = new long[unitCount];
+            long multiplier = 1;
+            for (int u = 0; u < unitCount; u++) {
+                List<Double> amounts = new ArrayList<>();
+                if (u < heroCount) {
+                    for (int m = 0; m < monsterCount; m++) {
+                        monsterHit[m][u] = amountIndex(amounts, monsterDamage[m][u]);
+                        monsterCrit[m][u] = amountIndex(amounts, monsterCritDamage[m][u]);
+                    }
+                } else {
+                    int m = u - heroCount;
+                    for (int h = 0; h < heroCount; h++) {
+                        heroHit[h][m] = amountIndex(amounts, heroDamage[h][m]);
+                        heroCrit[h][m] = amountIndex(amounts, heroCritDamage[h][m]);
+                    }
+                }
+                levels[u] = reachable(hp[u], amounts);
+                next[u] = transitions(levels[u], amounts);
+                startUnits[u] = levels[u].length - 1;
+                radix[u] = multiplier;
+                if (multiplier > Long.MAX_VALUE / levels[u].length) {
+                    throw new IllegalStateException("Too many reachable HP combinations; use a coarser HP quantum");
+                }
+                multiplier *= levels[u].length;
+                midMemo.add(new HashMap<>());
+            }
+        }
+
+        ExactBattleOutcome solve() {
+            long start = encode(startUnits);
+            Deque<Long> pending = new ArrayDeque<>();
+            pending.push(start);
+            while (!pending.isEmpty()) {
+                depth = 0;
+                try {
+                    roundStart(pending.peek());
+                    pending.pop();
+                } catch (Deferred deferred) {
+                    pending.push(deferred.state);
+                }
+            }
+            double[] value = roundStart(start);
+            return new ExactBattleOutcome(value[0], value[1], solvedStates, quantum);
+        }
+
+        /**
+         * {win probability, expected rounds} for a state at the start of a round.
+         */
+        private double[] roundStart(long state) {
+            int[] units = decode(state);
+            double[] terminal = terminalValue(units);
+            if (terminal != null) {
+                return terminal;
+            }
+            double[] cached = startMemo.get(state);
+            if (cached != null) {
+                return cached;
+            }
+            if (depth == ROUNDS_PER_PASS) {
+                throw new Deferred(state);
+            }
+            depth++;
+            // A round in which every attack misses returns to this very state; the chain below
+            // reports that probability separately so the self-loop can be solved in closed form.
+            double[] chain = unchanged(units, 0);
+            double scale = 1.0 / (1.0 - chain[2]);
+            double[] value = {chain[0] * scale, chain[1] * scale};
+            remember(startMemo, state, value);
+            depth--;
+            return value;
+        }
+
+        /**
+         * Value from actor {@code actor} onward while HP is still exactly as it was at round start.
+         * Returns {win, rounds, probability of ending the round unchanged}.
+         */
+        private double[] unchanged(int[] units, int actor) {
+            if (actor == unitCount) {
+                return new double[] {0, 0, 1};
+            }
+            double[] acc = {0, actor == 0 ? 1 : 0, 0};
+            if (units[actor] == 0) {
+                double[] rest = unchanged(units, actor + 1);
+                acc[0] += rest[0];
+                acc[1] += rest[1];
+                acc[2] += rest[2];
+                return acc;
+            }
+            forEachBranch(units, actor, (next, p, changed) -> {
+                if (changed) {
+                    double[] v = midRound(next, actor + 1);
+                    acc[0] += p * v[0];
+                    acc[1] += p * v[1];
+                } else {
+                    double[] rest = unchanged(units, actor + 1);
+                    acc[0] += p * rest[0];
+                    acc[1] += p * rest[1];
+                    acc[2] += p * rest[2];
+                }
+            });
+            return acc;
+        }
+
+        /**
+         * Value from actor {@code actor} onward after HP has changed earlier in this round.
+         */
+        private double[] midRound(long state, int actor) {
+            if (actor == unitCount) {
+                return roundStart(state);
+            }
+            int[] units = decode(state);
+            double[] terminal = terminalValue(units);
+            if (terminal != null) {
+                return terminal;
+            }
+            Map<Long, double[]> memo = midMemo.get(actor - 1);
+            double[] cached = memo.get(state);
+            if (cached != null) {
+                return cached;
+            }
+            double[] acc = {0, 0};
+            if (units[actor] == 0) {
+                double[] rest = midRound(state, actor + 1);
+                acc[0] = rest[0];
+                acc[1] = rest[1];
+            } else {
+                forEachBranch(units, actor, (next, p, changed) -> {
+                    double[] v = midRound(next, actor + 1);
+                    acc[0] += p * v[0];
+                    acc[1] += p * v[1];
+                });
+            }
+            remember(memo, state, acc);
+            return acc;
+        }
+
+        private double[] terminalValue(int[] units) {
+            if (sideDown(units, heroCount, unitCount)) {
+                return WIN;
+            }
+            if (sideDown(units, 0, heroCount)) {
+                return LOSS;
+            }
+            return null;
+        }
+
+        private void remember(Map<Long, double[]> memo, long state, double[] value) {
+            if (++solvedStates > maxStates) {
+                throw new IllegalStateException("State space exceeds " + maxStates + " states; use a coarser HP quantum");
+            }
+            memo.put(state, value);
+        }
+
+        /**
+         * Enumerates the dodge/hit/crit outcomes of one actor's attack.
+         */
+        private void forEachBranch(int[] units, int actor, Branch branch) {
+            if (actor < heroCount) {
+                int target = pickMonster(units);
+                int m = target - heroCount;
+                attack(units, target, 1.0, Hero.HERO_CRIT_CHANCE, heroHit[actor][m], heroCrit[actor][m], branch);
+                return;
+            }
+            int alive = 0;
+            for (int h = 0; h < heroCount; h++) {
+                if (units[h] > 0) {
+                    alive++;
+                }
+            }
+            int m = actor - heroCount;
+            for (int h = 0; h < heroCount; h++) {
+                if (units[h] > 0) {
+                    attack(units, h, 1.0 / alive, Monster.MONSTER_CRIT_CHANCE, monsterHit[m][h], monsterCrit[m][h], branch);
+                }
+            }
+        }
+
+        private void attack(int[] units, int target, double p, double critChance, int hit, int crit,
+                            Branch branch) {
+            double dodged = dodge[target];
+            long unchangedState = encode(units);
+            if (dodged > 0) {
+                branch.accept(unchangedState, p * dodged, false);
+            }
+            double landed = p * (1 - dodged);
+            emitHit(units, target, hit, landed * (1 - critChance), unchangedState, branch);
+            emitHit(units, target, crit, landed * critChance, unchangedState, branch);
+        }
+
+        private void emitHit(int[] units, int target, int amount, double p, long unchangedState, Branch branch) {
+            int before = units[target];
+            int after = next[target][amount][before];
+            long next = unchangedState - (long) (before - after) * radix[target];
+            branch.accept(next, p, after != before);
+        }
+
+        private int pickMonster(int[] units) {
+            int best = -1;
+            for (int i = heroCount; i < unitCount; i++) {
+                if (units[i] == 0) {
+                    continue;
+                }
+                if (targetRule == TargetRule.FIRST_ALIVE) {
+                    return i;
+                }
+                if (best < 0 || units[i] < units[best]) {
+                    best = i;
+                }
+            }
+            return best;
+        }
+
+        private long encode(int[] units) {
+            long code = 0;
+            for (int i = 0; i < unitCount; i++) {
+                code += units[i] * radix[i];
+            }
+            return code;
+        }
+
+        private int[] decode(long code) {
+            int[] units = new int[unitCount];
+            for (int i = unitCount - 1; i >= 0; i--) {
+                units[i] = (int) (code / radix[i]);
+                code %= radix[i];
+            }
+            return units;
+        }
+
+        private boolean sideDown(int[] units, int from, int to) {
+            for (int i = from; i < to; i++) {
+                if (units[i] > 0) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        private int amountIndex(List<Double> amounts, double amount) {
+            int index = amounts.indexOf(amount);
+            if (index < 0) {
+                index = amounts.size();
+                amounts.add(amount);
+            }
+            return index;
+        }
+
+        /**
+         * Every HP the unit can have: {@code start} minus any sequence of {@code amounts}, plus 0.
+         */
+        private double[] reachable(double start, List<Double> amounts) {
+            TreeSet<Double> values = new TreeSet<>();
+            values.add(0.0);
+            if (start > 0) {
+                Deque<Double> work = new ArrayDeque<>();
+                double top = snap(start);
+                values.add(top);
+                work.push(top);
+                while (!work.isEmpty()) {
+                    double value = work.pop();
+                    for (double amount : amounts) {
+                        double after = value - amount;
+                        if (after <= 0) {
+                            continue;
+                        }
+                        after = snap(after);
+                        if (closest(values, after) == null) {
+                            values.add(after);
+                            if (values.size() > maxStates) {
+                                throw new IllegalStateException("State space exceeds " + maxStates
+                                        + " states; use a coarser HP quantum");
+                            }
+                            work.push(after);
+                        }
+                    }
+                }
+            }
+            double[] sorted = new double[values.size()];
+            int i = 0;
+            for (double value : values) {
+                sorted[i++] = value;
+            }
+            return sorted;
+        }
+
+        private int[][] transitions(double[] values, List<Double> amounts) {
+            int[][] table = new int[amounts.size()][values.length];
+            for (int k = 0; k < amounts.size(); k++) {
+                for (int level = 1; level < values.length; level++) {
+                    double after = values[level] - amounts.get(k);
+                    table[k][level] = after <= 0 ? 0 : nearest(values, snap(after));
+                }
+            }
+            return table;
+        }
+
+        // Grid rounding when coarsening; a standing unit never rounds down to 0.
+        private double snap(double hp) {
+            return quantum > 0 ? Math.max(quantum, Math.round(hp / quantum) * quantum) : hp;
+        }
+
+        // Sums reached in different orders differ only by rounding error and are the same HP.
+        private Double closest(TreeSet<Double> values, double hp) {
+            double tolerance = quantum > 0 ? quantum / 2 : 1e-9 * Math.max(1, hp);
+            Double below = values.floor(hp);
+            if (below != null && hp - below <= tolerance) {
+                return below;
+            }
+            Double above = values.ceiling(hp);
+            return above != null && above - hp <= tolerance ? above : null;
+        }
+
+        private int nearest(double[] values, double hp) {
+            int index = Arrays.binarySearch(values, hp);
+            if (index >= 0) {
+                return index;
+            }
+            int above = -index - 1;
+            if (above == values.length) {
+                return values.length - 1;
+            }
+            return above > 0 && hp - values[above - 1] <= values[above] - hp ? above - 1 : above;
+        }
+    }
+}
@@ -0,0 +1,143 @@
+package mh.sim;
+
+import java.io.IOException;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import mh.data.DataLoader;
+import mh.data.GameData;
+import mh.data.GameIndex;
+import mh.items.Armor;
+import mh.items.Item;
+import mh.items.Potion;
+import mh.items.Spell;
+import mh.items.Weapon;
+import mh.model.MonsterTemplate;
+import mh.model.MonsterType;
+
+/**
+ * Compares {@link GameIndex} queries with the linear scans they replace, on the shipped data and on
+ * synthetic data {@code copies} times larger (every record repeated with random level and price).
+ *
+ * <p>Each round asks for the items a random hero can equip and afford and for the monsters of a
+ * random type within two levels of the hero, both ways, and checks that the answers agree. Run with
+ * {@code java mh.sim.IndexBenchmark [dataDir] [copies] [queries]}; exits non-zero on a mismatch.</p>
+ */
+public final class IndexBenchmark {
+    private IndexBenchmark() {
+    }
+
+    public static void main(String[] args) throws IOException {
+        GameData loaded = new DataLoader(Paths.get(args.length > 0 ? args[0] : ".")).load();
+        int copies = args.length > 1 ? Integer.parseInt(args[1]) : 100;
+        int queries = args.length > 2 ? Integer.parseInt(args[2]) : 20_000;
+        boolean same = run("1x", loaded, queries) & run(copies + "x", scaled(loaded, copies, new Random(7)), queries);
+        if (!same) {
+            System.exit(1);
+        }
+    }
+
+    private static boolean run(String label, GameData data, int queries) {
+        GameIndex index = data.getIndex();
+        List<Item> items = new ArrayList<>();
+        items.addAll(data.getWeapons());
+        items.addAll(data.getArmors());
+        items.addAll(data.getPotions());
+        items.addAll(data.getSpells());
+        MonsterType[] types = MonsterType.values();
+        boolean same = true;
+        long sink = 0;
+        long indexedNanos = 0;
+        long scannedNanos = 0;
+        for (int pass = 0; pass < 2; pass++) {
+            Random random = new Random(pass);
+            indexedNanos = 0;
+            scannedNanos = 0;
+            for (int q = 0; q < queries; q++) {
+                int level = 1 + random.nextInt(10);
+                int gold = random.nextInt(1500);
+                MonsterType type = types[random.nextInt(types.length)];
+
+                long start = System.nanoTime();
+                int indexedItems = index.available(level, gold).size();
+                int indexedMonsters = index.getMonsters(type, level - 2, level + 2).size();
+                long middle = System.nanoTime();
+                int scannedItems = 0;
+                for (Item item : items) {
+                    if (item.getLevelRequirement() <= level && item.getPrice() <= gold) {
+                        scannedItems++;
+                    }
+                }
+                int scannedMonsters = 0;
+                for (MonsterTemplate monster : monstersOf(data, type)) {
+                    if (monster.getLevel() >= level - 2 && monster.getLevel() <= level + 2) {
+                        scannedMonsters++;
+                    }
+                }
+                long end = System.nanoTime();
+
+                indexedNanos += middle - start;
+                scannedNanos += end - middle;
+                same &= indexedItems == scannedItems && indexedMonsters == scannedMonsters;
+                sink += indexedItems + scannedMonsters;
+            }
+        }
+        System.out.printf("%s (%d items, %d monsters): indexed %.2f us/query, linear scan %.2f us/query, same %b [%d]%n",
+                label, items.size(), index.getMonsters().size(), indexedNanos / 1e3 / queries,
+                scannedNanos / 1e3 / queries, same, sink % 10);
+        return same;
+    }
+
+    private static List<MonsterTemplate> monstersOf(GameData data, MonsterType type) {
+        switch (type) {
+            case DRAGON:
+                return data.getDragons();
+            case EXOSKELETON:
+                return data.getExoskeletons();
+            case SPIRIT:
+            default:
+                return data.getSpirits();
+        }
+    }
+
+    private static GameData scaled(GameData source, int copies, Random random) {
+        GameData data = new GameData();
+        for (int c = 0; c < copies; c++) {
+            String suffix = "_" + c;
+            for (MonsterTemplate m : source.getDragons()) {
+                data.addDragon(new MonsterTemplate(m.getName() + suffix, 1 + random.nextInt(10), 300, 400, 30, MonsterType.DRAGON));
+            }
+            for (MonsterTemplate m : source.getExoskeletons()) {
+                data.addExoskeleton(new MonsterTemplate(m.getName() + suffix, 1 + random.nextInt(10), 300, 400, 30,
+                        MonsterType.EXOSKELETON));
+            }
+            for (MonsterTemplate m : source.getSpirits()) {
+                data.addSpirit(new MonsterTemplate(m.getName() + suffix, 1 + random.nextInt(10), 300, 400, 30, MonsterType.SPIRIT));
+            }
+            for (Weapon w : source.getWeapons()) {
+                data.addWeapon(new Weapon(w.getName() + suffix, price(random), level(random), w.getDamage(), w.getHandsRequired()));
+            }
+            for (Armor a : source.getArmors()) {
+                data.addArmor(new Armor(a.getName() + suffix, price(random), level(random), a.getDamageReduction()));
+            }
+            for (Potion p : source.getPotions()) {
+                data.addPotion(new Potion(p.getName() + suffix, price(random), level(random), p.getAttribute(), p.getEffectAmount()));
+            }
+            for (Spell s : source.getSpells()) {
+                data.addSpell(new Spell(s.getName() + suffix, price(random), level(random), s.getBaseDamage(), s.getManaCost(),
+                        s.getSpellType()));
+            }
+        }
+        return data;
+    }
+
+    private static int price(Random random) {
+        return 50 * (1 + random.nextInt(30));
+    }
+
+    private static int level(Random random) {
+        return 1 + random.nextInt(10);
+    }
+}
@@ -0,0 +1,212 @@
+package mh.sim;
+
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.lang.management.OperatingSystemMXBean;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import mh.data.BinaryCatalog;
+import mh.data.DataLoader;
+import mh.data.GameData;
+import mh.items.Armor;
+import mh.items.Item;
+import mh.items.Potion;
+import mh.items.Potion.Attribute;
+import mh.items.Spell;
+import mh.items.Spell.SpellType;
+import mh.items.Weapon;
+import mh.model.Hero.HeroClass;
+import mh.model.HeroTemplate;
+import mh.model.Monster;
+import mh.model.MonsterTemplate;
+import mh.model.MonsterType;
+
+/**
+ * Times {@link DataLoader} against the previous line-splitting loader and checks that both build
+ * the same {@link GameData}.
+ *
+ * <p>Four variants are timed: the old approach ({@code Files.lines}, {@code trim().split("\\s+")},
+ * {@code Integer.parseInt}), the new loader run on the calling thread, the new loader on the
+ * common pool, and decoding a compiled {@link BinaryCatalog} (including the source hash check). The shipped files are tiny, so pass a copy count to have every record repeated that
+ * many times in a temporary directory. Open file descriptors are compared before and after (Unix
+ * JVMs only). Run with {@code java mh.sim.LoaderBenchmark [dataDir] [copies] [rounds]}; exits
+ * non-zero if the loaders disagree or descriptors leak.</p>
+ */
+public final class LoaderBenchmark {
+    private static final String[] FILES = {
+        "Warriors.txt", "Sorcerers.txt", "Paladins.txt", "Dragons.txt", "Exoskeletons.txt", "Spirits.txt",
+        "Weaponry.txt", "Armory.txt", "Potions.txt", "FireSpells.txt", "IceSpells.txt", "LightningSpells.txt"
+    };
+
+    private LoaderBenchmark() {
+    }
+
+    public static void main(String[] args) throws IOException {
+        Path source = Paths.get(args.length > 0 ? args[0] : ".");
+        int copies = args.length > 1 ? Integer.parseInt(args[1]) : 1;
+        int rounds = args.length > 2 ? Integer.parseInt(args[2]) : 200;
+        Path dir = copies > 1 ? replicate(source, copies) : source;
+
+        Path catalog = Files.createTempFile("mh-data", ".catalog");
+        catalog.toFile().deleteOnExit();
+        Files.delete(catalog);
+        long descriptors = openDescriptors();
+        String legacy = fingerprint(legacyLoad(dir));
+        boolean same = legacy.equals(fingerprint(new DataLoader(dir, Runnable::run).load()))
+                && legacy.equals(fingerprint(new DataLoader(dir).load()))
+                && legacy.equals(fingerprint(new DataLoader(dir).loadCatalog(catalog)));
+
+        double legacyMs = time(rounds, () -> legacyLoad(dir));
+        double sequentialMs = time(rounds, () -> new DataLoader(dir, Runnable::run).load());
+        double parallelMs = time(rounds, () -> new DataLoader(dir).load());
+        double catalogMs = time(rounds, () -> BinaryCatalog.openOrCompile(dir, catalog).toGameData());
+        long leaked = descriptors >= 0 ? openDescriptors() - descriptors : 0;
+
+        System.out.printf("%d copies, %d rounds: split %.3f ms, tokenizer %.3f ms, tokenizer+parallel %.3f ms, "
+                + "catalog %.3f ms (%d bytes)%n",
+                copies, rounds, legacyMs, sequentialMs, parallelMs, catalogMs, Files.size(catalog));
+        System.out.printf("same data: %b, file descriptors leaked: %s%n", same,
+                descriptors >= 0 ? Long.toString(leaked) : "unknown");
+        if (!same || leaked > 0) {
+            System.exit(1);
+        }
+    }
+
+    private interface Load {
+        GameData run() throws IOException;
+    }
+
+    // Mean milliseconds per load after as many warm-up loads.
+    private static double time(int rounds, Load load) throws IOException {
+        for (int i = 0; i < rounds; i++) {
+            load.run();
+        }
+        long start = System.nanoTime();
+        for (int i = 0; i < rounds; i++) {
+            load.run();
+        }
+        return (System.nanoTime() - start) / 1e6 / rounds;
+    }
+
+    private static long openDescriptors() {
+        OperatingSystemMXBean os = ManagementFactory.getOperatingSystemMXBean();
+        if (os instanceof com.sun.management.UnixOperatingSystemMXBean) {
+            return ((com.sun.management.UnixOperatingSystemMXBean) os).getOpenFileDescriptorCount();
+        }
+        return -1;
+    }
+
+    private static Path replicate(Path source, int copies) throws IOException {
+        Path dir = Files.createTempDirectory("mh-data");
+        for (String file : FILES) {
+            List<String> lines = Files.readAllLines(source.resolve(file));
+            List<String> out = new ArrayList<>(1 + (lines.size() - 1) * copies);
+            out.add(lines.get(0));
+            for (int c = 0; c < copies; c++) {
+                out.addAll(lines.subList(1, lines.size()));
+            }
+            Files.write(dir.resolve(file), out);
+            dir.resolve(file).toFile().deleteOnExit();
+        }
+        dir.toFile().deleteOnExit();
+        return dir;
+    }
+
+    private static String fingerprint(GameData data) {
+        StringBuilder sb = new StringBuilder();
+        for (List<HeroTemplate> heroes : Arrays.asList(data.getWarriors(), data.getSorcerers(), data.getPaladins())) {
+            heroes.forEach(h -> sb.append(h.fullInfo()).append('\n'));
+        }
+        for (List<MonsterTemplate> monsters : Arrays.asList(data.getDragons(), data.getExoskeletons(), data.getSpirits())) {
+            for (MonsterTemplate template : monsters) {
+                Monster m = template.newMonster();
+                sb.append(m.getName()).append(' ').append(m.getLevel()).append(' ').append(m.getBaseDamage())
+                        .append(' ').append(m.getDefense()).append(' ').append(m.getDodgeChance()).append('\n');
+            }
+        }
+        for (List<? extends Item> items : Arrays.asList(data.getWeapons(), data.getArmors(), data.getPotions(), data.getSpells())) {
+            items.forEach(i -> sb.append(i.getDescription()).append('\n'));
+        }
+        return sb.toString();
+    }
+
+    // The loader as it was before records were tokenized in place and files read concurrently.
+    private static GameData legacyLoad(Path dir) throws IOException {
+        GameData data = new GameData();
+        for (String[] p : legacyRecords(dir, "Warriors.txt", 6)) data.addWarrior(legacyHero(p, HeroClass.WARRIOR));
+        for (String[] p : legacyRecords(dir, "Sorcerers.txt", 6)) data.addSorcerer(legacyHero(p, HeroClass.SORCERER));
+        for (String[] p : legacyRecords(dir, "Paladins.txt", 6)) data.addPaladin(legacyHero(p, HeroClass.PALADIN));
+        for (String[] p : legacyRecords(dir, "Dragons.txt", 5)) data.addDragon(legacyMonster(p, MonsterType.DRAGON));
+        for (String[] p : legacyRecords(dir, "Exoskeletons.txt", 5)) {
+            data.addExoskeleton(legacyMonster(p, MonsterType.EXOSKELETON));
+        }
+        for (String[] p : legacyRecords(dir, "Spirits.txt", 5)) data.addSpirit(legacyMonster(p, MonsterType.SPIRIT));
+        for (String[] p : legacyRecords(dir, "Weaponry.txt", 5)) {
+            data.addWeapon(new Weapon(p[0], Integer.parseInt(p[1]), Integer.parseInt(p[2]), Integer.parseInt(p[3]),
+                    Integer.parseInt(p[4])));
+        }
+        for (String[] p : legacyRecords(dir, "Armory.txt", 4)) {
+            data.addArmor(new Armor(p[0], Integer.parseInt(p[1]), Integer.parseInt(p[2]), Integer.parseInt(p[3])));
+        }
+        for (String[] p : legacyRecords(dir, "Potions.txt", 5)) {
+            Attribute attribute;
+            switch (p[4].toUpperCase(Locale.US)) {
+                case "MANA":
+                    attribute = Attribute.MP;
+                    break;
+                case "STRENGTH":
+                    attribute = Attribute.STRENGTH;
+                    break;
+                case "DEXTERITY":
+                    attribute = Attribute.DEXTERITY;
+                    break;
+                case "AGILITY":
+                    attribute = Attribute.AGILITY;
+                    break;
+                default:
+                    attribute = Attribute.HP;
+            }
+            data.addPotion(new Potion(p[0], Integer.parseInt(p[1]), Integer.parseInt(p[2]), attribute,
+                    Integer.parseInt(p[3])));
+        }
+        String[] spellFiles = {"FireSpells.txt", "IceSpells.txt", "LightningSpells.txt"};
+        SpellType[] spellTypes = {SpellType.FIRE, SpellType.ICE, SpellType.LIGHTNING};
+        for (int f = 0; f < spellFiles.length; f++) {
+            for (String[] p : legacyRecords(dir, spellFiles[f], 5)) {
+                data.addSpell(new Spell(p[0], Integer.parseInt(p[1]), Integer.parseInt(p[2]), Integer.parseInt(p[3]),
+                        Integer.parseInt(p[4]), spellTypes[f]));
+            }
+        }
+        return data;
+    }
+
+    private static HeroTemplate legacyHero(String[] p, HeroClass heroClass) {
+        return new HeroTemplate(p[0], Integer.parseInt(p[1]), Integer.parseInt(p[2]), Integer.parseInt(p[3]),
+                Integer.parseInt(p[4]), Integer.parseInt(p[5]), p.length > 6 ? Integer.parseInt(p[6]) : 0, heroClass);
+    }
+
+    private static MonsterTemplate legacyMonster(String[] p, MonsterType type) {
+        return new MonsterTemplate(p[0], Integer.parseInt(p[1]), Double.parseDouble(p[2]), Double.parseDouble(p[3]),
+                Double.parseDouble(p[4]), type);
+    }
+
+    // Closes the stream, unlike the original, so the descriptor check measures only the new loader.
+    private static List<String[]> legacyRecords(Path dir, String file, int minFields) throws IOException {
+        try (Stream<String> lines = Files.lines(dir.resolve(file))) {
+            return lines.skip(1)
+                    .map(String::trim)
+                    .filter(line -> !line.isEmpty())
+                    .map(line -> line.split("\\s+"))
+                    .filter(parts -> parts.length >= minFields)
+                    .collect(Collectors.toList());
+        }
+    }
+}
@@ -0,0 +1,198 @@
+package mh.sim;
+
+import java.util.Arrays;
+import java.util.Random;
+import java.util.SplittableRandom;
+
+import mh.items.Armor;
+import mh.items.Weapon;
+import mh.model.Hero;
+import mh.model.Hero.HeroClass;
+import mh.model.Monster;
+import mh.model.MonsterType;
+
+/**
+ * Proves {@link LockstepDamageKernel} equivalent to the object path and reports its throughput.
+ *
+ * <p>For every lane a real {@link Hero} and {@link Monster} attack each other through
+ * {@code attack(target, random)} with a {@link Random} that replays the lane's rolls; the batch and
+ * reference kernels must leave bit-identical HP. Run with
+ * {@code java mh.sim.LockstepEquivalenceCheck [lanes] [seed]}; exits non-zero on any mismatch.</p>
+ */
+public final class LockstepEquivalenceCheck {
+    private static final MonsterType[] TYPES = MonsterType.values();
+
+    private LockstepEquivalenceCheck() {
+    }
+
+    public static void main(String[] args) {
+        int lanes = args.length > 0 ? Integer.parseInt(args[0]) : 100_000;
+        long seed = args.length > 1 ? Long.parseLong(args[1]) : 1L;
+        int mismatches = check(lanes, seed);
+        System.out.printf("%d lanes, %d mismatches%n", lanes, mismatches);
+        benchmark(1 << 12, 20_000);
+        if (mismatches > 0) {
+            System.exit(1);
+        }
+    }
+
+    /**
+     * @return the number of lanes where either kernel disagrees with the object path
+     */
+    public static int check(int lanes, long seed) {
+        SplittableRandom rng = new SplittableRandom(seed);
+        Hero[] heroes = new Hero[lanes];
+        Monster[] monsters = new Monster[lanes];
+        double[] heroDamage = new double[lanes];
+        double[] monsterDamage = new double[lanes];
+        double[] heroArmor = new double[lanes];
+        double[] monsterDefense = new double[lanes];
+        double[] heroDodge = new double[lanes];
+        double[] monsterDodge = new double[lanes];
+        for (int i = 0; i < lanes; i++) {
+            Hero hero = new Hero("Hero" + i, 100 + rng.nextInt(900), 100 + rng.nextInt(800),
+                    100 + rng.nextInt(800), 100 + rng.nextInt(800), 0, 0, HeroClass.values()[rng.nextInt(3)]);
+            hero.restoreStats(1 + rng.nextInt(10), 1 + rng.nextInt(1000), hero.getMana(), hero.getMaxMana(),
+                    hero.getStrength(), hero.getDexterity(), hero.getAgility(), 0, 0, 1000);
+            if (rng.nextBoolean()) {
+                hero.equipWeapon(new Weapon("Blade", 0, 1, rng.nextInt(1500), 1));
+            }
+            if (rng.nextBoolean()) {
+                hero.equipArmor(new Armor("Plate", 0, 1, rng.nextInt(900)));
+            }
+            Monster monster = new Monster("Monster" + i, 1 + rng.nextInt(10), rng.nextInt(100),
+                    rng.nextInt(100), rng.nextInt(60), TYPES[rng.nextInt(TYPES.length)]);
+            heroes[i] = hero;
+            monsters[i] = monster;
+            heroDamage[i] = hero.attackDamage();
+            monsterDamage[i] = monster.attackDamage();
+            heroArmor[i] = hero.getEquippedArmor() != null ? hero.getEquippedArmor().getDamageReduction() : 0;
+            monsterDefense[i] = monster.getDefense();
+            heroDodge[i] = hero.getDodgeChance();
+            monsterDodge[i] = monster.getDodgeChance();
+        }
+        double[] dodgeRoll = new double[lanes];
+        double[] critRoll = new double[lanes];
+        double[] active = new double[lanes];
+        double[] applied = new double[lanes];
+        double[] landed = new double[lanes];
+        double[] critFactor = new double[lanes];
+        double[] reduction = new double[lanes];
+        Arrays.fill(active, 1.0);
+        LockstepDamageKernel.roll(rng, lanes, dodgeRoll, critRoll);
+
+        int mismatches = 0;
+        // Hero strikes monster
+        double[] batchHp = monsterHp(monsters);
+        double[] scalarHp = monsterHp(monsters);
+        LockstepDamageKernel.classify(lanes, monsterDodge, Hero.HERO_CRIT_CHANCE, active, dodgeRoll, critRoll,
+                landed, critFactor);
+        LockstepDamageKernel.reductionFactors(lanes, monsterDefense, reduction);
+        LockstepDamageKernel.resolve(lanes, heroDamage, reduction, landed, critFactor, batchHp, applied);
+        LockstepDamageKernel.resolveScalar(lanes, heroDamage, monsterDefense, monsterDodge, scalarHp,
+                dodgeRoll, critRoll, Hero.HERO_CRIT_CHANCE, active, applied);
+        for (int i = 0; i < lanes; i++) {
+            heroes[i].attack(monsters[i], new ReplayedRolls(dodgeRoll[i], critRoll[i]));
+            if (!same(monsters[i].getHp(), batchHp[i], scalarHp[i])) {
+                mismatches++;
+            }
+        }
+        // Monster strikes back
+        batchHp = heroHp(heroes);
+        scalarHp = heroHp(heroes);
+        LockstepDamageKernel.classify(lanes, heroDodge, Monster.MONSTER_CRIT_CHANCE, active, dodgeRoll, critRoll,
+                landed, critFactor);
+        LockstepDamageKernel.reductionFactors(lanes, heroArmor, reduction);
+        LockstepDamageKernel.resolve(lanes, monsterDamage, reduction, landed, critFactor, batchHp, applied);
+        LockstepDamageKernel.resolveScalar(lanes, monsterDamage, heroArmor, heroDodge, scalarHp,
+                dodgeRoll, critRoll, Monster.MONSTER_CRIT_CHANCE, active, applied);
+        for (int i = 0; i < lanes; i++) {
+            monsters[i].attack(heroes[i], new ReplayedRolls(dodgeRoll[i], critRoll[i]));
+            if (!same(heroes[i].getHp(), batchHp[i], scalarHp[i])) {
+                mismatches++;
+            }
+        }
+        return mismatches;
+    }
+
+    private static void benchmark(int lanes, int repetitions) {
+        SplittableRandom rng = new SplittableRandom(42);
+        double[] damage = new double[lanes];
+        double[] armor = new double[lanes];
+        double[] dodge = new double[lanes];
+        double[] hp = new double[lanes];
+        double[] start = new double[lanes];
+        double[] active = new double[lanes];
+        double[] applied = new double[lanes];
+        double[] dodgeRoll = new double[lanes];
+        double[] critRoll = new double[lanes];
+        for (int i = 0; i < lanes; i++) {
+            damage[i] = 5 + rng.nextDouble() * 100;
+            armor[i] = rng.nextDouble() * 70;
+            dodge[i] = rng.nextDouble() * 0.5;
+            start[i] = 100 + rng.nextDouble() * 1000;
+            active[i] = 1;
+        }
+        LockstepDamageKernel.roll(rng, lanes, dodgeRoll, critRoll);
+        double[] landed = new double[lanes];
+        double[] critFactor = new double[lanes];
+        double[] reduction = new double[lanes];
+        LockstepDamageKernel.classify(lanes, dodge, 0.1, active, dodgeRoll, critRoll, landed, critFactor);
+        LockstepDamageKernel.reductionFactors(lanes, armor, reduction);
+        for (int pass = 0; pass < 2; pass++) {
+            long t0 = System.nanoTime();
+            for (int r = 0; r < repetitions; r++) {
+                System.arraycopy(start, 0, hp, 0, lanes);
+                LockstepDamageKernel.resolve(lanes, damage, reduction, landed, critFactor, hp, applied);
+            }
+            long t1 = System.nanoTime();
+            for (int r = 0; r < repetitions; r++) {
+                System.arraycopy(start, 0, hp, 0, lanes);
+                LockstepDamageKernel.resolveScalar(lanes, damage, armor, dodge, hp, dodgeRoll, critRoll, 0.1, active, applied);
+            }
+            long t2 = System.nanoTime();
+            double attacks = (double) lanes * repetitions;
+            System.out.printf("batch resolve %.2f ns/attack, scalar %.2f ns/attack%n",
+                    (t1 - t0) / attacks, (t2 - t1) / attacks);
+        }
+    }
+
+    private static boolean same(double objectHp, double batchHp, double scalarHp) {
+        return Double.compare(objectHp, batchHp) == 0 && Double.compare(objectHp, scalarHp) == 0;
+    }
+
+    private static double[] monsterHp(Monster[] monsters) {
+        double[] hp = new double[monsters.length];
+        for (int i = 0; i < monsters.length; i++) {
+            hp[i] = monsters[i].getHp();
+        }
+        return hp;
+    }
+
+    private static double[] heroHp(Hero[] heroes) {
+        double[] hp = new double[heroes.length];
+        for (int i = 0; i < heroes.length; i++) {
+            hp[i] = heroes[i].getHp();
+        }
+        return hp;
+    }
+
+    /**
+     * Feeds a lane's dodge roll, then its crit roll, to the object path.
+     */
+    private static final class ReplayedRolls extends Random {
+        private static final long serialVersionUID = 1L;
+
+        private final double[] rolls;
+        private int next;
+
+        ReplayedRolls(double dodgeRoll, double critRoll) {
+            this.rolls = new double[] {dodgeRoll, critRoll};
+        }
+
+        @Override
+        public double nextDouble() {
+            return rolls[next++];
+        }
+    }
+}
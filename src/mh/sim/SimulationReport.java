@@ -0,0 +1,95 @@
+package mh.sim;
+
+/**
+ * Aggregate statistics over many simulated battles, with 95% confidence intervals.
+ */
+public class SimulationReport {
+    private static final double Z_95 = 1.959963984540054;
+
+    private final int battles;
+    private final int wins;
+    private final double meanRounds;
+    private final double roundsStdDev;
+    private final double meanHpRemaining;
+    private final double hpRemainingStdDev;
+
+    SimulationReport(int battles, int wins, double meanRounds, double roundsStdDev,
+                     double meanHpRemaining, double hpRemainingStdDev) {
+        this.battles = battles;
+        this.wins = wins;
+        this.meanRounds = meanRounds;
+        this.roundsStdDev = roundsStdDev;
+        this.meanHpRemaining = meanHpRemaining;
+        this.hpRemainingStdDev = hpRemainingStdDev;
+    }
+
+    public int getBattles() {
+        return battles;
+    }
+
+    public int getWins() {
+        return wins;
+    }
+
+    public double getWinRate() {
+        return battles == 0 ? 0 : wins / (double) battles;
+    }
+
+    /**
+     * Lower bound of the Wilson score interval for the win rate.
+     */
+    public double getWinRateLow() {
+        return wilson(-1);
+    }
+
+    /**
+     * Upper bound of the Wilson score interval for the win rate.
+     */
+    public double getWinRateHigh() {
+        return wilson(1);
+    }
+
+    public double getMeanRounds() {
+        return meanRounds;
+    }
+
+    /**
+     * Half-width of the 95% confidence interval around {@link #getMeanRounds()}.
+     */
+    public double getRoundsMargin() {
+        return margin(roundsStdDev);
+    }
+
+    /**
+     * Mean total party HP left at the end of a battle (0 for defeats).
+     */
+    public double getMeanHpRemaining() {
+        return meanHpRemaining;
+    }
+
+    public double getHpRemainingMargin() {
+        return margin(hpRemainingStdDev);
+    }
+
+    private double wilson(int sign) {
+        if (battles == 0) {
+            return 0;
+        }
+        double p = getWinRate();
+        double z2 = Z_95 * Z_95;
+        double center = p + z2 / (2.0 * battles);
+        double spread = Z_95 * Math.sqrt(p * (1 - p) / battles + z2 / (4.0 * battles * battles));
+        return (center + sign * spread) / (1 + z2 / battles);
+    }
+
+    private double margin(double stdDev) {
+        return battles < 2 ? 0 : Z_95 * stdDev / Math.sqrt(battles);
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%d battles: win rate %.2f%% [%.2f%%, %.2f%%], rounds %.2f +/- %.2f, HP left %.1f +/- %.1f",
+                battles, getWinRate() * 100, getWinRateLow() * 100, getWinRateHigh() * 100,
+                meanRounds, getRoundsMargin(), meanHpRemaining, getHpRemainingMargin());
+    }
+}
@@ -0,0 +1,11 @@
+package mh.sim;
+
+/**
+ * How attack-only heroes pick their target in the analytical and array-based simulators.
+ */
+public enum TargetRule {
+    /** First monster still standing, as {@code HeroActionPolicies.attackFirst()}. */
+    FIRST_ALIVE,
+    /** Monster with the least HP left, first on ties, as {@code HeroActionPolicies.attackWeakest()}. */
+    WEAKEST
+}
@@ -0,0 +1,60 @@
+package mh.util;
+
+import java.io.PrintStream;
+import java.util.Formatter;
+
+/**
+ * Per-session console sink. Text accumulates in memory and reaches the
+ * underlying stream in a single write per {@link #flush()}, which the game
+ * loop issues once per prompt or rendered frame.
+ */
+public class BufferedConsoleOutput implements GameOutput {
+    private static final int INITIAL_CAPACITY = 8 * 1024;
+    // Safety valve for long stretches without a prompt (e.g. batch runs).
+    private static final int AUTO_FLUSH_THRESHOLD = 64 * 1024;
+
+    private final PrintStream target;
+    private final StringBuilder buffer = new StringBuilder(INITIAL_CAPACITY);
+    private final Formatter formatter = new Formatter(buffer);
+
+    public BufferedConsoleOutput() {
+        this(System.out);
+    }
+
+    public BufferedConsoleOutput(PrintStream target) {
+        this.target = target;
+    }
+
+    @Override
+    public void print(String text) {
+        buffer.append(text);
+        flushIfFull();
+    }
+
+    @Override
+    public void println(String text) {
+        buffer.append(text).append(System.lineSeparator());
+        flushIfFull();
+    }
+
+    @Override
+    public void printf(String format, Object... args) {
+        formatter.format(format, args);
+        flushIfFull();
+    }
+
+    @Override
+    public void flush() {
+        if (buffer.length() > 0) {
+            target.print(buffer);
+            buffer.setLength(0);
+        }
+        target.flush();
+    }
+
+    private void flushIfFull() {
+        if (buffer.length() >= AUTO_FLUSH_THRESHOLD) {
+            flush();
+        }
+    }
+}
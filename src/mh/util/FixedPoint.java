@@ -0,0 +1,82 @@
+package mh.util;
+
+import java.math.BigInteger;
+
+/**
+ * Q47.16 fixed-point arithmetic on {@code long}s: every value is an integer count of 1/65536ths.
+ *
+ * <p>All operations are integer adds, multiplies, shifts and divides, so results are identical on
+ * every JVM and platform regardless of evaluation order or intrinsics. Because the unit is a power
+ * of two, {@link #toDouble} is exact and a quantized value can be stored in a {@code double} field
+ * and read back with {@link #of} without loss. Products are rounded half up; magnitudes up to about
+ * 2^23 can be multiplied without overflow, far above any stat in the game.</p>
+ */
+public final class FixedPoint {
+    public static final int FRACTION_BITS = 16;
+    public static final long ONE = 1L << FRACTION_BITS;
+    private static final long HALF = ONE >> 1;
+    private static final double UNIT = 1.0 / ONE;
+
+    private FixedPoint() {
+    }
+
+    /**
+     * Nearest fixed-point value; exact for any double that is already a multiple of 1/65536.
+     */
+    public static long of(double value) {
+        // floor compiles to a single rounding instruction, unlike Math.round
+        return (long) Math.floor(value * ONE + 0.5);
+    }
+
+    public static long ofInt(long value) {
+        return value << FRACTION_BITS;
+    }
+
+    /**
+     * {@code numerator / denominator} rounded to the nearest unit, e.g. {@code ratio(3, 10)} for 0.3.
+     */
+    public static long ratio(long numerator, long denominator) {
+        return divide(ofInt(numerator), ofInt(denominator));
+    }
+
+    public static double toDouble(long value) {
+        // multiplying by a power of two is exact and avoids a division
+        return value * UNIT;
+    }
+
+    public static long multiply(long a, long b) {
+        return (a * b + HALF) >> FRACTION_BITS;
+    }
+
+    /**
+     * Quotient rounded half away from zero; the divisor must be non-zero.
+     */
+    public static long divide(long a, long b) {
+        long scaled = a << FRACTION_BITS;
+        long half = Math.abs(b) >> 1;
+        return (scaled ^ b) >= 0 ? (scaled + half) / b : (scaled - half) / b;
+    }
+
+    /**
+     * {@code (numerator / denominator)^exponent} for any integer exponent, computed exactly with
+     * big integers and rounded once; used to fill power tables.
+     */
+    public static long power(long numerator, long denominator, int exponent) {
+        BigInteger top = BigInteger.valueOf(exponent >= 0 ? numerator : denominator).pow(Math.abs(exponent));
+        BigInteger bottom = BigInteger.valueOf(exponent >= 0 ? denominator : numerator).pow(Math.abs(exponent));
+        BigInteger[] quotient = top.shiftLeft(FRACTION_BITS).divideAndRemainder(bottom);
+        long result = quotient[0].longValueExact();
+        return quotient[1].shiftLeft(1).compareTo(bottom) >= 0 ? result + 1 : result;
+    }
+
+    /**
+     * Table of {@code (numerator / denominator)^e} for {@code e} in {@code [-range, range]}, indexed by {@code e + range}.
+     */
+    public static long[] powerTable(long numerator, long denominator, int range) {
+        long[] table = new long[2 * range + 1];
+        for (int e = -range; e <= range; e++) {
+            table[e + range] = power(numerator, denominator, e);
+        }
+        return table;
+    }
+}
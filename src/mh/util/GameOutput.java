@@ -0,0 +1,19 @@
+package mh.util;
+
+/**
+ * Destination for all player-facing game text.
+ * Implementations may buffer, so callers flush right before blocking on input.
+ */
+public interface GameOutput {
+    void print(String text);
+
+    void println(String text);
+
+    default void println() {
+        println("");
+    }
+
+    void printf(String format, Object... args);
+
+    void flush();
+}
@@ -0,0 +1,25 @@
+package mh.util;
+
+/**
+ * Discards all game text; used for headless runs and simulations.
+ */
+public final class NullOutput implements GameOutput {
+    public static final NullOutput INSTANCE = new NullOutput();
+
+    private NullOutput() {}
+
+    @Override
+    public void print(String text) {}
+
+    @Override
+    public void println(String text) {}
+
+    @Override
+    public void println() {}
+
+    @Override
+    public void printf(String format, Object... args) {}
+
+    @Override
+    public void flush() {}
+}
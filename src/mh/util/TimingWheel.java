@@ -0,0 +1,175 @@
+package mh.util;
+
+import java.util.function.Consumer;
+
+/**
+ * Hierarchical timing wheel over an integer clock (battle rounds, game turns).
+ *
+ * <p>Each level has 64 slots and covers 64 times the span of the level below. A timer is filed at
+ * the lowest level whose span reaches its deadline; when the clock enters that slot's range the
+ * slot is cascaded one level down, until the timer reaches level 0 and fires. Scheduling and
+ * cancelling are O(1), and a tick touches only the current slot plus, once every 64 ticks, one
+ * slot per higher level, independent of how many timers are pending.</p>
+ *
+ * <p>Not thread-safe.</p>
+ */
+public final class TimingWheel<T> {
+    private static final int SLOT_BITS = 6;
+    private static final int SLOTS = 1 << SLOT_BITS;
+    private static final int SLOT_MASK = SLOTS - 1;
+    // 11 levels of 6 bits cover every long deadline.
+    private static final int LEVELS = (Long.SIZE + SLOT_BITS - 1) / SLOT_BITS;
+
+    /**
+     * A scheduled entry; keep it to cancel the timer before it fires.
+     */
+    public static final class Timer<T> {
+        private final T value;
+        private long deadline;
+        private int slot = -1;
+        private Timer<T> previous;
+        private Timer<T> next;
+
+        private Timer(T value) {
+            this.value = value;
+        }
+
+        public T getValue() {
+            return value;
+        }
+
+        public long getDeadline() {
+            return deadline;
+        }
+
+        public boolean isPending() {
+            return slot >= 0;
+        }
+    }
+
+    private final Timer<T>[] heads;
+    private long now;
+    private int pending;
+
+    @SuppressWarnings("unchecked")
+    public TimingWheel() {
+        heads = (Timer<T>[]) new Timer<?>[LEVELS * SLOTS];
+    }
+
+    public long now() {
+        return now;
+    }
+
+    public int pending() {
+        return pending;
+    }
+
+    /**
+     * Schedules {@code value} to fire on the tick {@code delay} ticks from now (at least 1).
+     */
+    public Timer<T> schedule(T value, long delay) {
+        Timer<T> timer = new Timer<>(value);
+        reschedule(timer, delay);
+        return timer;
+    }
+
+    /**
+     * Moves a pending or already fired timer to fire {@code delay} ticks from now.
+     */
+    public void reschedule(Timer<T> timer, long delay) {
+        if (delay < 1) {
+            throw new IllegalArgumentException("delay must be at least one tick");
+        }
+        cancel(timer);
+        timer.deadline = now + delay;
+        file(timer);
+        pending++;
+    }
+
+    public boolean cancel(Timer<T> timer) {
+        if (!timer.isPending()) {
+            return false;
+        }
+        unlink(timer);
+        pending--;
+        return true;
+    }
+
+    /**
+     * Advances the clock by one tick and hands every timer due on it to {@code expired}.
+     * The callback may schedule new timers.
+     */
+    public void advance(Consumer<? super T> expired) {
+        now++;
+        int top = 0;
+        while (top + 1 < LEVELS && (now & ((1L << (SLOT_BITS * (top + 1))) - 1)) == 0) {
+            top++;
+        }
+        // Highest level first, so timers cascading through several levels land in slots not yet emptied.
+        for (int level = top; level >= 1; level--) {
+            cascade(level * SLOTS + (int) ((now >>> (SLOT_BITS * level)) & SLOT_MASK));
+        }
+        int slot = (int) (now & SLOT_MASK);
+        Timer<T> timer;
+        while ((timer = heads[slot]) != null) {
+            unlink(timer);
+            pending--;
+            expired.accept(timer.value);
+        }
+    }
+
+    /**
+     * Cancels every pending timer, passing each to {@code drained} in no particular order.
+     */
+    public void clear(Consumer<? super T> drained) {
+        for (int slot = 0; slot < heads.length && pending > 0; slot++) {
+            Timer<T> timer;
+            while ((timer = heads[slot]) != null) {
+                unlink(timer);
+                pending--;
+                drained.accept(timer.value);
+            }
+        }
+    }
+
+    private void cascade(int slot) {
+        Timer<T> timer = heads[slot];
+        heads[slot] = null;
+        while (timer != null) {
+            Timer<T> next = timer.next;
+            timer.previous = null;
+            timer.next = null;
+            file(timer);
+            timer = next;
+        }
+    }
+
+    private void file(Timer<T> timer) {
+        // The highest 6-bit group in which deadline and clock differ picks the level.
+        long differing = timer.deadline ^ now;
+        int level = differing == 0 ? 0 : (Long.SIZE - 1 - Long.numberOfLeadingZeros(differing)) / SLOT_BITS;
+        int slot = level * SLOTS + (int) ((timer.deadline >>> (SLOT_BITS * level)) & SLOT_MASK);
+        Timer<T> head = heads[slot];
+        timer.slot = slot;
+        timer.previous = null;
+        timer.next = head;
+        if (head != null) {
+            head.previous = timer;
+        }
+        heads[slot] = timer;
+    }
+
+    private void unlink(Timer<T> timer) {
+        if (timer.previous != null) {
+            timer.previous.next = timer.next;
+        } else {
+            heads[timer.slot] = timer.next;
+        }
+        if (timer.next != null) {
+            timer.next.previous = timer.previous;
+        }
+        timer.previous = null;
+        timer.next = null;
+        timer.slot = -1;
+    }
+}
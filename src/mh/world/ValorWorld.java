@@ -10,6 +10,7 @@ import java.util.Random;
 
 import mh.model.Hero;
 import mh.model.Monster;
+import mh.util.GameOutput;
 import mh.world.MapRenderer;
 import mh.world.TileType;
 import mh.world.TileView;
@@ -383,6 +384,10 @@ public class ValorWorld implements TileView, ValorRules {
         System.out.println(render());
     }
 
+    public void printMap(GameOutput out) {
+        out.println(render());
+    }
+
     private String markerAt(Position pos) {
         Hero h = heroAt(pos);
         Monster m = monsterAt(pos);
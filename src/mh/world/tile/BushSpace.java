@@ -1,13 +1,12 @@
 package mh.world.tile;
 
-import java.util.HashMap;
-import java.util.Map;
-
 import mh.model.Hero;
+import mh.model.StatModifier;
 
 public class BushSpace extends Space {
     private static final double BUFF = 0.1;
-    private final Map<Hero, Double> applied = new HashMap<>();
+    // One modifier per space; a hero stands on at most one space, so removing it undoes exactly this buff.
+    private final StatModifier buff = StatModifier.multiplicative(StatModifier.Stat.DEXTERITY, 1 + BUFF, this);
 
     public BushSpace() {
         super('B', true);
@@ -16,17 +15,12 @@ public class BushSpace extends Space {
     @Override
     public void onEnter(Hero hero) {
         if (hero == null) return;
-        double delta = hero.getDexterity() * BUFF;
-        hero.increaseDexterity(delta);
-        applied.put(hero, delta);
+        hero.addModifier(buff);
     }
 
     @Override
     public void onExit(Hero hero) {
         if (hero == null) return;
-        Double delta = applied.remove(hero);
-        if (delta != null) {
-            hero.increaseDexterity(-delta);
-        }
+        hero.removeModifier(buff);
     }
 }
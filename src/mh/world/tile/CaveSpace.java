@@ -1,13 +1,11 @@
 package mh.world.tile;
 
-import java.util.HashMap;
-import java.util.Map;
-
 import mh.model.Hero;
+import mh.model.StatModifier;
 
 public class CaveSpace extends Space {
     private static final double BUFF = 0.1;
-    private final Map<Hero, Double> applied = new HashMap<>();
+    private final StatModifier buff = StatModifier.multiplicative(StatModifier.Stat.AGILITY, 1 + BUFF, this);
 
     public CaveSpace() {
         super('C', true);
@@ -16,17 +14,12 @@ public class CaveSpace extends Space {
     @Override
     public void onEnter(Hero hero) {
         if (hero == null) return;
-        double delta = hero.getAgility() * BUFF;
-        hero.increaseAgility(delta);
-        applied.put(hero, delta);
+        hero.addModifier(buff);
     }
 
     @Override
     public void onExit(Hero hero) {
         if (hero == null) return;
-        Double delta = applied.remove(hero);
-        if (delta != null) {
-            hero.increaseAgility(-delta);
-        }
+        hero.removeModifier(buff);
     }
 }
@@ -1,13 +1,11 @@
 package mh.world.tile;
 
-import java.util.HashMap;
-import java.util.Map;
-
 import mh.model.Hero;
+import mh.model.StatModifier;
 
 public class KoulouSpace extends Space {
     private static final double BUFF = 0.1;
-    private final Map<Hero, Double> applied = new HashMap<>();
+    private final StatModifier buff = StatModifier.multiplicative(StatModifier.Stat.STRENGTH, 1 + BUFF, this);
 
     public KoulouSpace() {
         super('K', true);
@@ -16,17 +14,12 @@ public class KoulouSpace extends Space {
     @Override
     public void onEnter(Hero hero) {
         if (hero == null) return;
-        double delta = hero.getStrength() * BUFF;
-        hero.increaseStrength(delta);
-        applied.put(hero, delta);
+        hero.addModifier(buff);
     }
 
     @Override
     public void onExit(Hero hero) {
         if (hero == null) return;
-        Double delta = applied.remove(hero);
-        if (delta != null) {
-            hero.increaseStrength(-delta);
-        }
+        hero.removeModifier(buff);
     }
 }